@@ -0,0 +1,255 @@
+package benchmarks;
+
+import interfaces.Selection;
+import interfaces.Sort;
+import main.Controller;
+import main.SortRegistry;
+import utilities.Distribution;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs a matrix of algorithms × sizes × input distributions × seeds from the command line, in parallel.
+ * <p>
+ * Every run is an independent task on a work-stealing pool with its own freshly generated array, so
+ * runs never share mutable state. Tasks are submitted largest first to keep all cores busy until
+ * the end. Results are streamed to a columnar results file as they complete, and a summary of medians
+ * and percentiles is printed once every run has finished.
+ * </p>
+ * Options (all optional):
+ * <pre>
+ * --sorts=Quick Sort,Heap Sort     algorithm names, default every registered full sort recommended for the largest size
+ * --sizes=1000,10000,100000        array sizes
+ * --distributions=RANDOM,SORTED    input distributions, default all
+ * --seeds=5                        number of seeds per combination
+ * --threads=8                      parallelism, default the number of cores
+ * --out=results.bin                results file
+ * </pre>
+ * The results file holds a header followed by row groups, each storing its rows column by column
+ * (big-endian):
+ * <pre>
+ * header:    u8[4] "SAVR", i32 version=1, u16 sortCount, utf[] sortNames, u16 distributionCount, utf[] distributionNames
+ * row group: i32 rowCount, u16[] sort, i32[] size, u8[] distribution, i64[] seed,
+ *            i64[] nanos (-1 if the run failed), i64[] comparisons, i64[] arrayAccesses
+ * end:       i32 rowCount=0
+ * </pre>
+ */
+public class BatchRunner {
+    private static final int ROW_GROUP_SIZE = 256;
+
+    /**
+     * One cell of the matrix.
+     */
+    private record Task(int sort, int size, int distribution, long seed) {
+    }
+
+    /**
+     * The outcome of one task.
+     */
+    private record Result(Task task, long nanos, long comparisons, long arrayAccesses) {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) throw new IllegalArgumentException("Expected --option=value: " + arg);
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        int[] sizes = Arrays.stream(options.getOrDefault("sizes", "1000,10000,100000").split(","))
+                .mapToInt(size -> Integer.parseInt(size.trim())).toArray();
+        List<SortRegistry.Entry> sorts = new ArrayList<>();
+        if (options.containsKey("sorts")) {
+            for (String name : options.get("sorts").split(",")) {
+                sorts.add(SortRegistry.find(name.trim())
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown algorithm: " + name)));
+            }
+        } else {
+            int largest = Arrays.stream(sizes).max().orElse(0);
+            for (SortRegistry.Entry entry : SortRegistry.entries()) {
+                Sort sort = entry.create();
+                if (!(sort instanceof Selection) && sort.getMaxRecommendedSize() >= largest) sorts.add(entry);
+            }
+        }
+        Distribution[] distributions = options.containsKey("distributions")
+                ? Arrays.stream(options.get("distributions").split(",")).map(d -> Distribution.valueOf(d.trim().toUpperCase())).toArray(Distribution[]::new)
+                : Distribution.values();
+        int seeds = Integer.parseInt(options.getOrDefault("seeds", "5"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        String out = options.getOrDefault("out", "results.bin");
+
+        List<Task> tasks = new ArrayList<>();
+        for (int s = 0; s < sorts.size(); s++) {
+            for (int size : sizes) {
+                for (int d = 0; d < distributions.length; d++) {
+                    for (long seed = 1; seed <= seeds; seed++) tasks.add(new Task(s, size, d, seed));
+                }
+            }
+        }
+        tasks.sort(Comparator.comparingInt(Task::size).reversed());
+        System.out.printf("Running %d tasks (%d algorithms x %d sizes x %d distributions x %d seeds) on %d threads%n",
+                tasks.size(), sorts.size(), sizes.length, distributions.length, seeds, threads);
+
+        warmUp(sorts, Arrays.stream(sizes).max().orElse(0));
+
+        ExecutorService pool = Executors.newWorkStealingPool(threads);
+        CompletionService<Result> completion = new ExecutorCompletionService<>(pool);
+        for (Task task : tasks) {
+            completion.submit(() -> run(task, sorts.get(task.sort()).create(), distributions[task.distribution()]));
+        }
+
+        List<Result> results = new ArrayList<>(tasks.size());
+        long start = System.nanoTime();
+        try (ResultsWriter writer = new ResultsWriter(out, sorts, distributions)) {
+            for (int completed = 1; completed <= tasks.size(); completed++) {
+                Result result;
+                try {
+                    result = completion.take().get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+                results.add(result);
+                writer.append(result);
+                if (completed % 100 == 0 || completed == tasks.size()) {
+                    System.out.printf("\r%d/%d runs, %.1f s", completed, tasks.size(), (System.nanoTime() - start) / 1e9);
+                }
+            }
+        }
+        pool.shutdown();
+        System.out.printf("%nResults written to %s%n%n", out);
+        printSummary(results, sorts, distributions);
+    }
+
+    /**
+     * Runs one task on its own array. Runs that throw (e.g. a stack overflow from deep recursion on
+     * adversarial input) are recorded as failed instead of aborting the batch.
+     */
+    private static Result run(Task task, Sort sort, Distribution distribution) {
+        int[] input = distribution.create(task.size(), task.seed());
+        Controller controller = Bench.headlessController(input);
+        try {
+            long nanos = Bench.runTimed(sort, controller);
+            return new Result(task, nanos, controller.comparisons, controller.arrayAccesses);
+        } catch (RuntimeException | StackOverflowError e) {
+            return new Result(task, -1, controller.comparisons, controller.arrayAccesses);
+        }
+    }
+
+    /**
+     * Runs each algorithm once, untimed, before the matrix starts. Tasks are submitted largest first,
+     * so without this the biggest runs would be measured while the JIT is still compiling.
+     */
+    private static void warmUp(List<SortRegistry.Entry> sorts, int size) {
+        int[] input = Distribution.RANDOM.create(size, 0);
+        for (SortRegistry.Entry sort : sorts) {
+            try {
+                Bench.run(sort::create, input, size / 2);
+            } catch (RuntimeException | StackOverflowError e) {
+                // The same failure is recorded when the task runs
+            }
+        }
+    }
+
+    private static void printSummary(List<Result> results, List<SortRegistry.Entry> sorts, Distribution[] distributions) {
+        Map<List<Integer>, List<Result>> groups = new HashMap<>();
+        for (Result result : results) {
+            Task task = result.task();
+            groups.computeIfAbsent(List.of(task.sort(), task.size(), task.distribution()), k -> new ArrayList<>()).add(result);
+        }
+        List<List<Integer>> keys = new ArrayList<>(groups.keySet());
+        keys.sort(Comparator.<List<Integer>>comparingInt(k -> k.get(0)).thenComparingInt(k -> k.get(1)).thenComparingInt(k -> k.get(2)));
+        // Selection algorithms only partition around the median, so their rows are not full sorts
+        Set<SortRegistry.Entry> selections = new HashSet<>();
+        for (SortRegistry.Entry sort : sorts) {
+            if (sort.create() instanceof Selection) selections.add(sort);
+        }
+
+        System.out.printf("%-38s %9s %-14s %5s %11s %11s %11s %14s%n",
+                "Algorithm", "n", "distribution", "runs", "p50 (ms)", "p90 (ms)", "p99 (ms)", "p50 compares");
+        for (List<Integer> key : keys) {
+            List<Result> group = groups.get(key);
+            long[] nanos = group.stream().mapToLong(Result::nanos).filter(t -> t >= 0).sorted().toArray();
+            long[] comparisons = group.stream().filter(r -> r.nanos() >= 0).mapToLong(Result::comparisons).sorted().toArray();
+            SortRegistry.Entry sort = sorts.get(key.get(0));
+            String name = selections.contains(sort) ? sort.name() + " (selection)" : sort.name();
+            String distribution = distributions[key.get(2)].toString();
+            if (nanos.length == 0) {
+                System.out.printf("%-38s %9d %-14s %5s %s%n", name, key.get(1), distribution, "0/" + group.size(), "all runs failed");
+                continue;
+            }
+            System.out.printf("%-38s %9d %-14s %5s %11.3f %11.3f %11.3f %14d%n", name, key.get(1), distribution,
+                    nanos.length == group.size() ? String.valueOf(nanos.length) : nanos.length + "/" + group.size(),
+                    percentile(nanos, 50) / 1e6, percentile(nanos, 90) / 1e6, percentile(nanos, 99) / 1e6,
+                    percentile(comparisons, 50));
+        }
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * Buffers results into row groups and writes each group column by column.
+     */
+    private static class ResultsWriter implements AutoCloseable {
+        private final DataOutputStream out;
+        private final List<Result> group = new ArrayList<>(ROW_GROUP_SIZE);
+
+        ResultsWriter(String path, List<SortRegistry.Entry> sorts, Distribution[] distributions) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+            out.writeBytes("SAVR");
+            out.writeInt(1);
+            out.writeShort(sorts.size());
+            for (SortRegistry.Entry sort : sorts) out.writeUTF(sort.name());
+            out.writeShort(distributions.length);
+            for (Distribution distribution : distributions) out.writeUTF(distribution.name());
+        }
+
+        void append(Result result) throws IOException {
+            group.add(result);
+            if (group.size() == ROW_GROUP_SIZE) flushGroup();
+        }
+
+        private void flushGroup() throws IOException {
+            if (group.isEmpty()) return;
+            out.writeInt(group.size());
+            for (Result r : group) out.writeShort(r.task().sort());
+            for (Result r : group) out.writeInt(r.task().size());
+            for (Result r : group) out.writeByte(r.task().distribution());
+            for (Result r : group) out.writeLong(r.task().seed());
+            for (Result r : group) out.writeLong(r.nanos());
+            for (Result r : group) out.writeLong(r.comparisons());
+            for (Result r : group) out.writeLong(r.arrayAccesses());
+            out.flush();
+            group.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushGroup();
+            out.writeInt(0);
+            out.close();
+        }
+    }
+}
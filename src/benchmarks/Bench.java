@@ -0,0 +1,93 @@
+package benchmarks;
+
+import interfaces.Sort;
+import main.Controller;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Helpers for running sorting algorithms headlessly, without animation delays or the GUI.
+ */
+public final class Bench {
+    private Bench() {
+    }
+
+    /**
+     * The outcome of timing one algorithm on one input.
+     *
+     * @param nanos           The median wall-clock time of the timed repetitions.
+     * @param comparisons     The comparisons counted by the algorithm.
+     * @param arrayAccesses   The array accesses counted by the algorithm.
+     * @param auxiliaryMemory The peak auxiliary buffer bytes reported by the algorithm, or -1 if it reports none.
+     */
+    public record Measurement(long nanos, long comparisons, long arrayAccesses, long auxiliaryMemory) {
+    }
+
+    /**
+     * Creates a controller holding a copy of the input, with animations disabled.
+     *
+     * @param input The values to sort, left untouched.
+     * @return A controller ready to be passed to {@link Sort#runSort(Controller)}.
+     */
+    public static Controller headlessController(int[] input) {
+        Controller controller = new Controller(input.length);
+        controller.animate = false;
+        System.arraycopy(input, 0, controller.array, 0, input.length);
+        // Algorithms write highlights to the first few slots regardless of the array length
+        for (int i = 0; i < Math.max(input.length, 3); i++) controller.highlighted.add(-1);
+        return controller;
+    }
+
+    /**
+     * Runs a fresh instance of an algorithm on a copy of the input once.
+     *
+     * @param sort          Supplies the algorithm instance.
+     * @param input         The values to sort, left untouched.
+     * @param selectionRank The rank targeted by selection algorithms.
+     * @return The controller after the run, holding the result and the counters.
+     */
+    public static Controller run(Supplier<Sort> sort, int[] input, int selectionRank) {
+        Controller controller = headlessController(input);
+        controller.selectionRank = selectionRank;
+        runTimed(sort.get(), controller);
+        return controller;
+    }
+
+    /**
+     * Times an algorithm after a warm-up run and reports the median of the timed repetitions.
+     * Only the call to {@link Sort#runSort(Controller)} is timed, not copying the input.
+     *
+     * @param sort          Supplies the algorithm instance.
+     * @param input         The values to sort, left untouched.
+     * @param selectionRank The rank targeted by selection algorithms.
+     * @param repetitions   The number of timed runs.
+     * @return The median time and the counters of the last run.
+     */
+    public static Measurement measure(Supplier<Sort> sort, int[] input, int selectionRank, int repetitions) {
+        run(sort, input, selectionRank);
+        long[] times = new long[repetitions];
+        Controller last = null;
+        for (int r = 0; r < repetitions; r++) {
+            last = headlessController(input);
+            last.selectionRank = selectionRank;
+            times[r] = runTimed(sort.get(), last);
+        }
+        Arrays.sort(times);
+        return new Measurement(times[repetitions / 2], last.comparisons, last.arrayAccesses, last.auxiliaryMemory);
+    }
+
+    /**
+     * Runs an algorithm on a prepared controller.
+     *
+     * @return The elapsed wall-clock time in nanoseconds.
+     */
+    public static long runTimed(Sort sort, Controller controller) {
+        controller.sorting = true;
+        long start = System.nanoTime();
+        sort.runSort(controller);
+        long elapsed = System.nanoTime() - start;
+        controller.sorting = false;
+        return elapsed;
+    }
+}
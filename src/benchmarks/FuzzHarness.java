@@ -0,0 +1,332 @@
+package benchmarks;
+
+import interfaces.Selection;
+import interfaces.Sort;
+import main.Controller;
+import main.SortRegistry;
+import records.RecordBuffer;
+import records.RecordSorter;
+import sorts.DaryHeapSort;
+import utilities.Distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Differential fuzzing harness that checks every registered algorithm (see {@link SortRegistry})
+ * against {@link Arrays#sort(int[])}.
+ * <p>
+ * Each case is fully determined by the seed and its index, so any failure can be replayed.
+ * Inputs mix random, adversarial and degenerate shapes (duplicates, extreme values, tiny sizes,
+ * median-of-three killers) and are run headlessly on all cores. For every target the harness
+ * reports throughput and the smallest failing input it could shrink a failure down to.
+ * </p>
+ * Checks:
+ * - Registry: each display name in the service file matches the algorithm's {@link Sort#getName()}.
+ * - {@link Sort}: the result is exactly the sorted input.
+ * - {@link Selection}: the element at the selection rank matches, the array is partitioned around
+ * it, it is still a permutation of the input, and the top is sorted where claimed.
+ * - {@link RecordSorter}: keys are sorted, payloads travelled with their keys, and equal keys keep
+ * their original order for stable strategies. Plain int keys carry no identity, so stability is
+ * only observable on records; {@link Sort#isStable()} on int sorts is displayed, not checked.
+ * <p>
+ * Usage: {@code java benchmarks.FuzzHarness [cases] [threads] [seed]}; exits with status 1 on failure.
+ * </p>
+ */
+public class FuzzHarness {
+    private static final int MAX_SIZE = 4096;
+    private static final long THREAD_STACK_SIZE = 256L << 20; // Deep recursion on adversarial inputs is not a failure
+    private static final int BLOCK = 256;
+    private static final int MAX_SHRINK_ATTEMPTS = 2000;
+
+    /**
+     * Something that can be checked against a single input.
+     */
+    private abstract static class Target {
+        final String name;
+        final int maxSize;
+        final LongAdder cases = new LongAdder();
+        final LongAdder elements = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        int[] smallestFailure;
+        int smallestFailureRank;
+        String smallestFailureReason;
+
+        Target(String name, int maxSize) {
+            this.name = name;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @return A description of the first violated property, or null if the result is correct.
+         */
+        abstract String check(int[] input, int[] sorted, int rank);
+
+        String checkSafely(int[] input, int rank) {
+            int[] sorted = input.clone();
+            Arrays.sort(sorted);
+            try {
+                return check(input, sorted, rank);
+            } catch (Throwable e) {
+                return e.toString();
+            }
+        }
+
+        synchronized void recordFailure(int[] input, int rank, String reason) {
+            if (smallestFailure == null || input.length < smallestFailure.length) {
+                smallestFailure = input;
+                smallestFailureRank = rank;
+                smallestFailureReason = reason;
+            }
+        }
+    }
+
+    private static class SortTarget extends Target {
+        private final Supplier<Sort> sort;
+
+        SortTarget(Supplier<Sort> sort, int maxSize) {
+            super(sort.get().getName(), maxSize);
+            this.sort = sort;
+        }
+
+        @Override
+        String check(int[] input, int[] sorted, int rank) {
+            Controller c = Bench.headlessController(input);
+            c.selectionRank = rank;
+            Sort algorithm = sort.get();
+            nanos.add(Bench.runTimed(algorithm, c));
+            if (!(algorithm instanceof Selection selection)) {
+                return Arrays.equals(c.array, sorted) ? null : "result differs from Arrays.sort";
+            }
+
+            if (input.length == 0) return null;
+            int[] result = c.array.clone();
+            Arrays.sort(result);
+            if (!Arrays.equals(result, sorted)) return "result is not a permutation of the input";
+            if (c.array[rank] != sorted[rank]) return "wrong element at rank " + rank;
+            for (int i = 0; i < rank; i++) {
+                if (c.array[i] > sorted[rank]) return "larger element before rank at " + i;
+            }
+            for (int i = rank + 1; i < input.length; i++) {
+                if (c.array[i] < sorted[rank]) return "smaller element after rank at " + i;
+                if (selection.sortsAboveRank() && c.array[i] != sorted[i]) return "top not sorted at " + i;
+            }
+            return null;
+        }
+    }
+
+    private static class RecordTarget extends Target {
+        private final RecordSorter.Strategy strategy;
+
+        RecordTarget(RecordSorter.Strategy strategy) {
+            super("RecordSorter." + strategy, MAX_SIZE);
+            this.strategy = strategy;
+        }
+
+        @Override
+        String check(int[] input, int[] sorted, int rank) {
+            RecordBuffer records = new RecordBuffer(input.length, Long.BYTES);
+            for (int i = 0; i < input.length; i++) {
+                records.setKey(i, input[i]);
+                records.setTag(i, i);
+            }
+            long start = System.nanoTime();
+            RecordSorter.sort(records, strategy);
+            nanos.add(System.nanoTime() - start);
+
+            for (int i = 0; i < input.length; i++) {
+                if (records.key(i) != sorted[i]) return "key differs from Arrays.sort at " + i;
+                long tag = records.tag(i);
+                if (tag < 0 || tag >= input.length || input[(int) tag] != records.key(i)) {
+                    return "payload separated from its key at " + i;
+                }
+                if (strategy.isStable() && i > 0 && records.key(i) == records.key(i - 1) && tag < records.tag(i - 1)) {
+                    return "equal keys reordered at " + i;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Input shapes. Besides the visualizer's distributions these include values across the whole
+     * int range and sequences known to break naive quicksorts.
+     */
+    private enum Shape {
+        PERMUTATION, SORTED, REVERSED, NEARLY_SORTED, FEW_UNIQUE, WIDE, EXTREMES, ALL_EQUAL,
+        TWO_VALUES, ORGAN_PIPE, SAWTOOTH, MEDIAN_OF_THREE_KILLER;
+
+        int[] create(int n, SplittableRandom random) {
+            int[] a = new int[n];
+            switch (this) {
+                case PERMUTATION -> a = Distribution.RANDOM.create(n, random.nextLong());
+                case SORTED -> a = Distribution.SORTED.create(n, random.nextLong());
+                case REVERSED -> a = Distribution.REVERSED.create(n, random.nextLong());
+                case NEARLY_SORTED -> a = Distribution.NEARLY_SORTED.create(n, random.nextLong());
+                case FEW_UNIQUE -> a = Distribution.FEW_UNIQUE.create(n, random.nextLong());
+                case WIDE -> {
+                    for (int i = 0; i < n; i++) a[i] = random.nextInt();
+                }
+                case EXTREMES -> {
+                    int[] values = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1, 0, 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+                    for (int i = 0; i < n; i++) a[i] = values[random.nextInt(values.length)];
+                }
+                case ALL_EQUAL -> Arrays.fill(a, random.nextInt());
+                case TWO_VALUES -> {
+                    for (int i = 0; i < n; i++) a[i] = random.nextBoolean() ? 1 : 0;
+                }
+                case ORGAN_PIPE -> {
+                    for (int i = 0; i < n; i++) a[i] = Math.min(i, n - 1 - i);
+                }
+                case SAWTOOTH -> {
+                    int period = 1 + random.nextInt(Math.max(1, n / 4 + 1));
+                    for (int i = 0; i < n; i++) a[i] = i % period;
+                }
+                case MEDIAN_OF_THREE_KILLER -> {
+                    // Musser's sequence, which drives median-of-three quicksort to quadratic time
+                    int k = n / 2;
+                    for (int i = 1; i <= k; i++) {
+                        if (i % 2 == 1) {
+                            a[i - 1] = i;
+                            a[i] = k + i;
+                        }
+                        a[k + i - 1] = 2 * i;
+                    }
+                    if (n % 2 == 1) a[n - 1] = n;
+                }
+            }
+            return a;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long totalCases = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+        List<Target> targets = new ArrayList<>();
+        for (SortRegistry.Entry entry : SortRegistry.entries()) {
+            Sort sort = entry.create();
+            if (!entry.name().equals(sort.getName())) {
+                System.out.printf("Display name \"%s\" in the service file does not match getName() \"%s\"%n", entry.name(), sort.getName());
+                System.exit(1);
+            }
+            targets.add(new SortTarget(entry::create, Math.min(sort.getMaxRecommendedSize(), MAX_SIZE)));
+        }
+        targets.add(new SortTarget(() -> new DaryHeapSort(3), MAX_SIZE)); // An arity that is not a power of two
+        targets.add(new SortTarget(() -> new DaryHeapSort(4, false), MAX_SIZE));
+        for (RecordSorter.Strategy strategy : RecordSorter.Strategy.values()) targets.add(new RecordTarget(strategy));
+
+        System.out.printf("Fuzzing %d targets with %d cases on %d threads (seed %d)%n",
+                targets.size(), totalCases, threads, seed);
+        AtomicLong next = new AtomicLong();
+        long start = System.nanoTime();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(null, () -> {
+                for (long block = next.getAndAdd(BLOCK); block < totalCases; block = next.getAndAdd(BLOCK)) {
+                    for (long index = block; index < Math.min(block + BLOCK, totalCases); index++) {
+                        runCase(targets.get((int) (index % targets.size())), seed, index);
+                    }
+                }
+            }, "fuzz-" + t, THREAD_STACK_SIZE);
+            workers[t].start();
+        }
+        for (Thread worker : workers) worker.join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%n%-38s %10s %14s %16s %9s%n", "Target", "cases", "elements", "elements/s", "failures");
+        boolean failed = false;
+        for (Target target : targets) {
+            double sortSeconds = Math.max(target.nanos.sum(), 1) / 1e9;
+            System.out.printf("%-38s %10d %14d %16.0f %9d%n", target.name, target.cases.sum(),
+                    target.elements.sum(), target.elements.sum() / sortSeconds, target.failures.sum());
+        }
+        for (Target target : targets) {
+            if (target.smallestFailure == null) continue;
+            failed = true;
+            int[] input = target.smallestFailure;
+            System.out.printf("%nSmallest failure for %s (%s), n = %d, rank = %d:%n%s%n", target.name,
+                    target.smallestFailureReason, input.length, target.smallestFailureRank,
+                    input.length <= 64 ? Arrays.toString(input) : Arrays.toString(Arrays.copyOf(input, 64)) + "...");
+        }
+        System.out.printf("%nCompleted in %.1f s (%.0f cases/s)%n", seconds, totalCases / seconds);
+        if (failed) System.exit(1);
+    }
+
+    /**
+     * Generates the input for one case from the seed and index, checks it, and shrinks any failure.
+     */
+    private static void runCase(Target target, long seed, long index) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        int bucket = random.nextInt(10);
+        int n = bucket < 6 ? random.nextInt(17) : bucket < 9 ? random.nextInt(17, 257) : random.nextInt(257, MAX_SIZE + 1);
+        n = Math.min(n, target.maxSize);
+        Shape shape = Shape.values()[random.nextInt(Shape.values().length)];
+        int[] input = shape.create(n, random);
+        int rank = n == 0 ? 0 : random.nextInt(n);
+
+        target.cases.increment();
+        target.elements.add(n);
+        String reason = target.checkSafely(input, rank);
+        if (reason == null) return;
+        target.failures.increment();
+        synchronized (target) {
+            if (target.smallestFailure != null && target.smallestFailure.length <= n) return;
+        }
+        shrink(target, input, rank, reason);
+    }
+
+    /**
+     * Greedily removes chunks of the input, then simplifies values, keeping every change that still fails.
+     */
+    private static void shrink(Target target, int[] input, int rank, String reason) {
+        int attempts = 0;
+        boolean progress = true;
+        while (progress && attempts < MAX_SHRINK_ATTEMPTS) {
+            progress = false;
+            for (int chunk = Math.max(input.length / 2, 1); chunk >= 1 && !progress; chunk /= 2) {
+                for (int from = 0; from + chunk <= input.length && attempts < MAX_SHRINK_ATTEMPTS; from += chunk) {
+                    int[] candidate = new int[input.length - chunk];
+                    System.arraycopy(input, 0, candidate, 0, from);
+                    System.arraycopy(input, from + chunk, candidate, from, input.length - from - chunk);
+                    int candidateRank = Math.max(0, Math.min(rank, candidate.length - 1));
+                    attempts++;
+                    String candidateReason = target.checkSafely(candidate, candidateRank);
+                    if (candidateReason != null) {
+                        input = candidate;
+                        rank = candidateRank;
+                        reason = candidateReason;
+                        progress = true;
+                        break;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < input.length; i++) {
+            // Try zero first, then keep halving the value towards zero while the failure persists
+            boolean zero = input[i] != 0;
+            while (attempts < MAX_SHRINK_ATTEMPTS && (zero || input[i] / 2 != 0)) {
+                int[] candidate = input.clone();
+                candidate[i] = zero ? 0 : input[i] / 2;
+                attempts++;
+                String candidateReason = target.checkSafely(candidate, rank);
+                if (candidateReason != null) {
+                    input = candidate;
+                    reason = candidateReason;
+                    if (zero) break;
+                } else if (!zero) {
+                    break;
+                }
+                zero = false;
+            }
+        }
+        target.recordFailure(input, rank, reason);
+    }
+}
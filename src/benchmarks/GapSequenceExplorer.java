@@ -0,0 +1,62 @@
+package benchmarks;
+
+import interfaces.Sort;
+import sorts.CombSort;
+import sorts.GapSequence;
+import sorts.InsertionSort;
+import sorts.ShellSort;
+import utilities.Distribution;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Explores how far gap sequences push the quadratic in-place sorts: benchmarks {@link ShellSort}
+ * with every {@link GapSequence}, plus {@link CombSort}, across sizes and input distributions, and
+ * reports the comparisons and time of each. {@link InsertionSort}, the gap-1 special case, is
+ * included as a baseline on sizes where it finishes in reasonable time.
+ * <p>
+ * Usage: {@code java benchmarks.GapSequenceExplorer [sizes...]}
+ * </p>
+ */
+public class GapSequenceExplorer {
+    private static final int REPETITIONS = 3;
+    private static final long SEED = 42;
+    private static final int INSERTION_SORT_LIMIT = 20_000;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1_000, 10_000, 100_000, 1_000_000};
+
+        Map<String, Supplier<Sort>> algorithms = new LinkedHashMap<>();
+        for (GapSequence sequence : GapSequence.values()) {
+            algorithms.put("Shell " + sequence.getDisplayName(), () -> new ShellSort(sequence));
+        }
+        algorithms.put("Comb", CombSort::new);
+        algorithms.put("Insertion", InsertionSort::new);
+
+        for (int n : sizes) {
+            for (Distribution distribution : Distribution.values()) {
+                int[] input = distribution.create(n, SEED);
+                System.out.printf("n = %d, %s%n", n, distribution);
+                System.out.printf("  %-16s %16s %12s%n", "Algorithm", "comparisons", "time (ms)");
+
+                long best = Long.MAX_VALUE;
+                String bestName = null;
+                for (Map.Entry<String, Supplier<Sort>> algorithm : algorithms.entrySet()) {
+                    if (algorithm.getKey().equals("Insertion") && n > INSERTION_SORT_LIMIT) continue;
+                    Bench.Measurement m = Bench.measure(algorithm.getValue(), input, 0, REPETITIONS);
+                    System.out.printf("  %-16s %16d %12.3f%n", algorithm.getKey(), m.comparisons(), m.nanos() / 1e6);
+                    if (m.nanos() < best) {
+                        best = m.nanos();
+                        bestName = algorithm.getKey();
+                    }
+                }
+                System.out.printf("  Fastest: %s%n%n", bestName);
+            }
+        }
+    }
+}
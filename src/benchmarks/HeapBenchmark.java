@@ -0,0 +1,53 @@
+package benchmarks;
+
+import interfaces.Sort;
+import sorts.BottomUpHeapSort;
+import sorts.DaryHeapSort;
+import sorts.HeapSort;
+import sorts.QuickSort;
+import utilities.Distribution;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares the heapsort variants against each other and {@link QuickSort} on random input.
+ * Comparisons show the algorithmic cost; time also shows the effect of memory layout, which is
+ * where the shallower d-ary heaps make up for their extra comparisons as the array outgrows the caches.
+ * Each d-ary heap also runs with its sibling groups unaligned, to show what the aligned layout saves.
+ * <p>
+ * Usage: {@code java benchmarks.HeapBenchmark [sizes...]}
+ * </p>
+ */
+public class HeapBenchmark {
+    private static final int REPETITIONS = 5;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{10_000, 100_000, 1_000_000, 4_000_000};
+
+        Map<String, Supplier<Sort>> algorithms = new LinkedHashMap<>();
+        algorithms.put("Heap Sort", HeapSort::new);
+        algorithms.put("Bottom-up Heap Sort", BottomUpHeapSort::new);
+        algorithms.put("4-ary Heap Sort", () -> new DaryHeapSort(4));
+        algorithms.put("4-ary (unaligned)", () -> new DaryHeapSort(4, false));
+        algorithms.put("8-ary Heap Sort", () -> new DaryHeapSort(8));
+        algorithms.put("8-ary (unaligned)", () -> new DaryHeapSort(8, false));
+        algorithms.put("Quick Sort", QuickSort::new);
+
+        System.out.printf("%-22s %10s %12s %14s %14s%n", "Algorithm", "n", "time (ms)", "comparisons", "accesses");
+        for (int n : sizes) {
+            int[] input = Distribution.RANDOM.create(n, SEED);
+            for (Map.Entry<String, Supplier<Sort>> algorithm : algorithms.entrySet()) {
+                Bench.Measurement m = Bench.measure(algorithm.getValue(), input, 0, REPETITIONS);
+                System.out.printf("%-22s %10d %12.3f %14d %14d%n", algorithm.getKey(), n,
+                        m.nanos() / 1e6, m.comparisons(), m.arrayAccesses());
+            }
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import interfaces.Sort;
+import sorts.BottomUpMergeSort;
+import sorts.HeapSort;
+import sorts.NaturalMergeSort;
+import sorts.RotationMergeSort;
+import sorts.TopDownMergeSort;
+import utilities.Distribution;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Measures the memory/throughput trade-off of the stable merge sorts: an O(n) buffer, an O(sqrt(n))
+ * buffer and no buffer at all, with {@link HeapSort} as an unstable in-place baseline. Runs on
+ * random and nearly sorted input, where natural merge sort finds long runs to reuse.
+ * <p>
+ * Usage: {@code java benchmarks.MergeBenchmark [sizes...]}
+ * </p>
+ */
+public class MergeBenchmark {
+    private static final int REPETITIONS = 5;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{10_000, 100_000, 1_000_000};
+
+        Map<String, Supplier<Sort>> algorithms = new LinkedHashMap<>();
+        algorithms.put("Top-down Merge", TopDownMergeSort::new);
+        algorithms.put("Bottom-up Merge", BottomUpMergeSort::new);
+        algorithms.put("Natural Merge", NaturalMergeSort::new);
+        algorithms.put("Rotation Merge (n/2)", () -> new RotationMergeSort(RotationMergeSort.Buffer.HALF));
+        algorithms.put("Rotation Merge (sqrt n)", () -> new RotationMergeSort(RotationMergeSort.Buffer.SQRT));
+        algorithms.put("Rotation Merge (none)", () -> new RotationMergeSort(RotationMergeSort.Buffer.NONE));
+        algorithms.put("Heap Sort", HeapSort::new);
+
+        System.out.printf("%-24s %-14s %10s %12s %14s %14s %14s%n",
+                "Algorithm", "distribution", "n", "time (ms)", "comparisons", "accesses", "aux (bytes)");
+        for (int n : sizes) {
+            for (Distribution distribution : new Distribution[]{Distribution.RANDOM, Distribution.NEARLY_SORTED}) {
+                int[] input = distribution.create(n, SEED);
+                for (Map.Entry<String, Supplier<Sort>> algorithm : algorithms.entrySet()) {
+                    Bench.Measurement m = Bench.measure(algorithm.getValue(), input, 0, REPETITIONS);
+                    System.out.printf("%-24s %-14s %10d %12.3f %14d %14d %14s%n", algorithm.getKey(), distribution, n,
+                            m.nanos() / 1e6, m.comparisons(), m.arrayAccesses(), m.auxiliaryMemory() < 0 ? "-" : String.valueOf(m.auxiliaryMemory()));
+                }
+                System.out.println();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package benchmarks;
+
+import records.RecordBuffer;
+import records.RecordSorter;
+import utilities.Distribution;
+
+import java.util.Arrays;
+
+/**
+ * Benchmarks the off-heap record sort strategies as the payload grows, showing where moving
+ * whole records on every swap starts to cost more than sorting an index and moving each record once.
+ * <p>
+ * Usage: {@code java benchmarks.RecordBenchmark [numberOfRecords] [payloadSizes...]}
+ * </p>
+ */
+public class RecordBenchmark {
+    private static final int REPETITIONS = 5;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int[] payloads = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{12, 60, 252};
+        int[] keys = Distribution.RANDOM.create(n, SEED);
+
+        System.out.printf("%-12s %8s %10s %12s %16s%n", "Strategy", "payload", "n", "time (ms)", "bytes moved");
+        for (int payload : payloads) {
+            RecordBuffer records = new RecordBuffer(n, payload);
+            for (RecordSorter.Strategy strategy : RecordSorter.Strategy.values()) {
+                long[] times = new long[REPETITIONS];
+                for (int r = -1; r < REPETITIONS; r++) { // The first run warms up
+                    for (int i = 0; i < n; i++) records.setKey(i, keys[i]);
+                    records.bytesMoved = 0;
+                    long start = System.nanoTime();
+                    RecordSorter.sort(records, strategy);
+                    if (r >= 0) times[r] = System.nanoTime() - start;
+                }
+                Arrays.sort(times);
+                System.out.printf("%-12s %8d %10d %12.3f %16d%n", strategy, payload, n,
+                        times[REPETITIONS / 2] / 1e6, records.bytesMoved);
+            }
+        }
+    }
+}
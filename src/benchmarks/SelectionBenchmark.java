@@ -0,0 +1,75 @@
+package benchmarks;
+
+import interfaces.Sort;
+import sorts.FloydRivestSelect;
+import sorts.HeapTopK;
+import sorts.IntroSelect;
+import sorts.QuickSort;
+import sorts.StreamingTopK;
+import utilities.Distribution;
+import utilities.TopK;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks the selection algorithms against sorting everything with {@link QuickSort}, to show
+ * how much throughput is gained when only a percentile or the top k values are needed.
+ * <p>
+ * Usage: {@code java benchmarks.SelectionBenchmark [percentile] [sizes...]}, defaulting to
+ * the 99th percentile (and so the top 1%) of 10,000, 100,000 and 1,000,000 random elements.
+ * </p>
+ */
+public class SelectionBenchmark {
+    private static final int REPETITIONS = 5;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        int percentile = args.length > 0 ? Integer.parseInt(args[0]) : 99;
+        int[] sizes = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{10_000, 100_000, 1_000_000};
+
+        Map<String, Supplier<Sort>> algorithms = new LinkedHashMap<>();
+        algorithms.put("Quick Sort (full)", QuickSort::new);
+        algorithms.put("Introselect", IntroSelect::new);
+        algorithms.put("Floyd-Rivest Select", FloydRivestSelect::new);
+        algorithms.put("Heap Top-k", HeapTopK::new);
+        algorithms.put("Streaming Top-k", StreamingTopK::new);
+
+        System.out.printf("%-22s %10s %12s %14s %14s %9s%n",
+                "Algorithm", "n", "time (ms)", "comparisons", "accesses", "speedup");
+        for (int n : sizes) {
+            int[] input = Distribution.RANDOM.create(n, SEED);
+            int rank = (int) ((long) n * percentile / 100);
+            long baseline = 0;
+            for (Map.Entry<String, Supplier<Sort>> algorithm : algorithms.entrySet()) {
+                Bench.Measurement m = Bench.measure(algorithm.getValue(), input, Math.min(rank, n - 1), REPETITIONS);
+                if (baseline == 0) baseline = m.nanos();
+                System.out.printf("%-22s %10d %12.3f %14d %14d %8.1fx%n", algorithm.getKey(), n,
+                        m.nanos() / 1e6, m.comparisons(), m.arrayAccesses(), (double) baseline / m.nanos());
+            }
+
+            // Library baselines: a full Arrays.sort against the O(k) memory stream over the same values
+            long sortTime = median(() -> Arrays.sort(input.clone()));
+            long streamTime = median(() -> TopK.of(Arrays.stream(input), n - rank));
+            System.out.printf("%-22s %10d %12.3f%n", "Arrays.sort (full)", n, sortTime / 1e6);
+            System.out.printf("%-22s %10d %12.3f %14s %14s %8.1fx%n%n", "TopK.of(IntStream)", n,
+                    streamTime / 1e6, "", "", (double) sortTime / streamTime);
+        }
+    }
+
+    private static long median(Runnable task) {
+        task.run();
+        long[] times = new long[REPETITIONS];
+        for (int r = 0; r < REPETITIONS; r++) {
+            long start = System.nanoTime();
+            task.run();
+            times[r] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[REPETITIONS / 2];
+    }
+}
@@ -0,0 +1,18 @@
+package interfaces;
+
+/**
+ * The Selection interface marks algorithms that only partially sort the array. Afterwards the
+ * element at `Controller.selectionRank` holds the value it would hold in sorted order, no element
+ * before it is larger and no element after it is smaller.
+ */
+public interface Selection extends Sort {
+    /**
+     * Whether the elements from `Controller.selectionRank` to the end of the array are also left in sorted order,
+     * as top-k algorithms do.
+     *
+     * @return True if the elements above the selection rank are sorted.
+     */
+    default boolean sortsAboveRank() {
+        return false;
+    }
+}
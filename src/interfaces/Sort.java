@@ -9,6 +9,11 @@ import main.Controller;
  * methods for retrieving the algorithm's name, time complexity, and space complexity.
  */
 public interface Sort {
+    /**
+     * The recommended maximum size for algorithms that take quadratic time.
+     */
+    int QUADRATIC_MAX_SIZE = 512;
+
     /**
      * Gets the name of the sorting algorithm.
      *
@@ -36,6 +41,27 @@ public interface Sort {
         return "";
     }
 
+    /**
+     * Gets the largest array the algorithm is recommended for, so that benchmarks and the fuzz
+     * harness can keep slow algorithms away from large inputs without parsing the complexity text.
+     *
+     * @return The largest recommended number of elements, unbounded by default.
+     */
+    default int getMaxRecommendedSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Whether the algorithm keeps equal elements in their original relative order, shown in the
+     * GUI heading. Equal ints are indistinguishable, so this is a claim that cannot be observed on
+     * `Controller.array`; only the record strategies are checked for it, using payload tags.
+     *
+     * @return True if the algorithm is stable.
+     */
+    default boolean isStable() {
+        return false;
+    }
+
     /**
      * Implement the sorting algorithm's core logic within this method.
      * Be sure to check for termination conditions using a `return` statement
@@ -0,0 +1,85 @@
+package main;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+
+/**
+ * A searchable menu of the registered algorithms, replacing one button per algorithm.
+ * Typing filters the list by name; Enter, OK or a double click selects.
+ */
+final class AlgorithmMenu {
+    private AlgorithmMenu() {
+    }
+
+    /**
+     * Shows the menu and waits for the user to choose.
+     *
+     * @param entries The algorithms to choose from.
+     * @return The chosen algorithm, or null if the menu was cancelled.
+     */
+    static SortRegistry.Entry choose(List<SortRegistry.Entry> entries) {
+        DefaultListModel<SortRegistry.Entry> model = new DefaultListModel<>();
+        model.addAll(entries);
+        JList<SortRegistry.Entry> list = new JList<>(model);
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.setVisibleRowCount(12);
+        list.setSelectedIndex(0);
+
+        JTextField search = new JTextField();
+        search.getDocument().addDocumentListener(new DocumentListener() {
+            private void filter() {
+                String query = search.getText().trim().toLowerCase();
+                model.clear();
+                for (SortRegistry.Entry entry : entries) {
+                    if (entry.name().toLowerCase().contains(query)) model.addElement(entry);
+                }
+                list.setSelectedIndex(0);
+            }
+
+            public void insertUpdate(DocumentEvent e) {
+                filter();
+            }
+
+            public void removeUpdate(DocumentEvent e) {
+                filter();
+            }
+
+            public void changedUpdate(DocumentEvent e) {
+                filter();
+            }
+        });
+
+        JPanel panel = new JPanel(new BorderLayout(0, 6));
+        panel.add(search, BorderLayout.NORTH);
+        panel.add(new JScrollPane(list), BorderLayout.CENTER);
+
+        JOptionPane pane = new JOptionPane(panel, JOptionPane.PLAIN_MESSAGE, JOptionPane.OK_CANCEL_OPTION);
+        JDialog dialog = pane.createDialog(null, "Choose an Algorithm");
+        search.addActionListener(e -> pane.setValue(JOptionPane.OK_OPTION)); // Enter in the search field
+        list.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) pane.setValue(JOptionPane.OK_OPTION);
+            }
+        });
+        dialog.addWindowFocusListener(new WindowAdapter() {
+            @Override
+            public void windowGainedFocus(WindowEvent e) {
+                search.requestFocusInWindow();
+            }
+        });
+        dialog.setVisible(true);
+        dialog.dispose();
+
+        Object value = pane.getValue();
+        if (!(value instanceof Integer option) || option != JOptionPane.OK_OPTION) return null;
+        return list.getSelectedValue();
+    }
+}
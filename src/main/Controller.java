@@ -12,16 +12,20 @@ public class Controller {
     public int[] array;
     public ArrayList<Integer> highlighted;
     public Color highlightedColor; // Default highlight color
+    public int selectionRank; // Target index for selection algorithms, the median by default
 
     // Metrics
     public int numberOfElements;
     public long arrayAccesses;
     public long comparisons;
+    public long bytesMoved; // Payload bytes moved by record sorts
+    public long auxiliaryMemory = -1; // Peak auxiliary buffer bytes allocated by the algorithm, -1 if it does not report them
 
     // Flags for controlling sorting and UI interaction
     public volatile boolean pauseSort = false; // Pause flag for sorting
     public volatile boolean stopSort = false; // Stop flag for sorting
     public volatile boolean sorting = false; // Sorting in progress flag
+    public boolean animate = true; // Animation delays flag, disabled for headless benchmarks
 
     /**
      * Class constructor initializes the Controller with the specified number of elements.
@@ -33,6 +37,7 @@ public class Controller {
         this.array = new int[numberOfElements];
         highlighted = new ArrayList<>();
         highlightedColor = Color.green;
+        selectionRank = numberOfElements / 2;
         arrayAccesses = 0;
         comparisons = 0;
     }
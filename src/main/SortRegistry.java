@@ -0,0 +1,133 @@
+package main;
+
+import interfaces.Sort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Discovers the available sorting algorithms from the {@link java.util.ServiceLoader} metadata.
+ * Algorithms are registered by listing their class in {@code META-INF/services/interfaces.Sort};
+ * nothing else refers to them, so adding one needs no change to the GUI.
+ * <p>
+ * Each line of the service file gives the display name after the class, as a comment that
+ * {@code ServiceLoader} ignores, e.g. {@code sorts.QuickSort # Quick Sort}. Discovery only parses
+ * that text, so no algorithm class is loaded until {@link Entry#create()} is called for it. It runs
+ * in the background, off the startup path.
+ * </p>
+ */
+public final class SortRegistry {
+    private static final String SERVICE_FILE = "META-INF/services/" + Sort.class.getName();
+    private static CompletableFuture<List<Entry>> discovery;
+
+    private SortRegistry() {
+    }
+
+    /**
+     * A registered algorithm.
+     *
+     * @param name      The algorithm's display name.
+     * @param className The binary name of the class implementing it, e.g. {@code sorts.ShellSort$Knuth}.
+     */
+    public record Entry(String name, String className) {
+        /**
+         * Loads the algorithm's class if necessary and creates a new instance with its public no-argument constructor.
+         *
+         * @return A new instance of the algorithm.
+         * @throws ServiceConfigurationError if the class is missing, is not a {@link Sort}, or cannot be instantiated.
+         */
+        public Sort create() {
+            try {
+                return Class.forName(className, true, SortRegistry.class.getClassLoader())
+                        .asSubclass(Sort.class).getConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new ServiceConfigurationError("Cannot create " + className, e);
+            }
+        }
+
+        /**
+         * @return The class's simple name, e.g. {@code Knuth} for {@code sorts.ShellSort$Knuth}.
+         */
+        public String simpleName() {
+            return className.substring(Math.max(className.lastIndexOf('.'), className.lastIndexOf('$')) + 1);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Starts discovery in the background unless it has already started.
+     *
+     * @return A future completing with every registered algorithm, sorted by name.
+     */
+    public static synchronized CompletableFuture<List<Entry>> discoverAsync() {
+        if (discovery == null) {
+            discovery = CompletableFuture.supplyAsync(SortRegistry::discover);
+        }
+        return discovery;
+    }
+
+    /**
+     * Gets every registered algorithm, waiting for discovery to finish if necessary.
+     *
+     * @return Every registered algorithm, sorted by name.
+     */
+    public static List<Entry> entries() {
+        return discoverAsync().join();
+    }
+
+    /**
+     * Looks up an algorithm by its display name or class name, ignoring case.
+     *
+     * @param name The name to look for, e.g. "Quick Sort" or "QuickSort".
+     * @return The matching algorithm, if any.
+     */
+    public static Optional<Entry> find(String name) {
+        return entries().stream()
+                .filter(e -> e.name().equalsIgnoreCase(name) || e.simpleName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    /**
+     * Parses every service file on the class path. Lines without a display name fall back to the class's simple name.
+     */
+    private static List<Entry> discover() {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> files = SortRegistry.class.getClassLoader().getResources(SERVICE_FILE);
+            while (files.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(files.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int comment = line.indexOf('#');
+                        String className = (comment < 0 ? line : line.substring(0, comment)).trim();
+                        if (className.isEmpty()) continue;
+                        Entry entry = new Entry(comment < 0 ? "" : line.substring(comment + 1).trim(), className);
+                        entries.putIfAbsent(className, entry.name().isEmpty() ? new Entry(entry.simpleName(), className) : entry);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparing(Entry::name, String.CASE_INSENSITIVE_ORDER));
+        return List.copyOf(sorted);
+    }
+}
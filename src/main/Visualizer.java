@@ -2,10 +2,7 @@ package main;
 
 import ecs100.UI;
 import interfaces.Sort;
-import sorts.BogoSort;
-import sorts.BubbleSort;
-import sorts.InsertionSort;
-import sorts.QuickSort;
+import server.StreamServer;
 import utilities.Delays;
 import utilities.Operations;
 
@@ -14,6 +11,11 @@ import javax.swing.*;
 import java.awt.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static utilities.Delays.sleep;
 
@@ -48,7 +50,8 @@ public class Visualizer {
     private static Thread audioThread;
     private static Thread UIThread;
     private static Synthesizer synth;
-    private static MidiChannel channel;
+    private static volatile MidiChannel channel; // Null until the audio system is initialised, or if it failed
+    private static volatile boolean firstFrameDrawn = false;
 
     /*----------------Graphics Setup-----------------*/
 
@@ -58,6 +61,12 @@ public class Visualizer {
      * and handles user interactions for sorting and visualization.
      */
     public static void setupGUI() {
+        // Load the sound font and discover the algorithms in the background, off the startup path
+        Thread audioInitThread = new Thread(Visualizer::initAudio, "audio-init");
+        audioInitThread.setDaemon(true);
+        audioInitThread.start();
+        SortRegistry.discoverAsync();
+
         UI.initialise(); // Initialize UI and configure window properties
         Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
 
@@ -96,40 +105,22 @@ public class Visualizer {
         // Adjusts the speed of animation, higher is faster
         UI.addSlider("Animation Speed", 0, 100, (double newSpeed) -> Delays.setAnimationSpeed((int) newSpeed));
 
-        // Sorting
-        UI.addButton("Bubble Sort", () -> {
-            try {
-                runAlgorithm(new BubbleSort());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        });
-        UI.addButton("Insertion Sort", () -> {
-            try {
-                runAlgorithm(new InsertionSort());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        });
-        UI.addButton("Quick Sort", () -> {
-            try {
-                runAlgorithm(new QuickSort());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        });
-        UI.addButton("Bogo Sort", () -> {
-            try {
-                runAlgorithm(new BogoSort());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+        // Sorting: algorithms are discovered from the service metadata, see SortRegistry
+        UI.addButton("Algorithms...", () -> {
+            SortRegistry.Entry entry = AlgorithmMenu.choose(SortRegistry.entries());
+            if (entry != null) {
+                try {
+                    runAlgorithm(entry.create());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
             }
         });
 
         // Utilities
         UI.addButton("Pause", () -> {
             controller.pauseSort = true;
-            channel.allSoundOff();
+            if (channel != null) channel.allSoundOff();
             UI.printMessage("Paused");
         });
         UI.addButton("Resume", () -> { // TODO: Fix everything
@@ -220,9 +211,22 @@ public class Visualizer {
                 graphics.drawString("Comparisons: " + controller.comparisons, 10, 40);
                 graphics.drawString("Array Accesses: " + controller.arrayAccesses, 11, 55);
                 graphics.drawString("Number of Elements: " + controller.numberOfElements, 10, 70);
+                int extraY = 85;
+                if (controller.bytesMoved > 0) {
+                    graphics.drawString("Bytes Moved: " + controller.bytesMoved, 10, extraY);
+                    extraY += 15;
+                }
+                if (controller.auxiliaryMemory >= 0) {
+                    graphics.drawString("Auxiliary Memory: " + controller.auxiliaryMemory + " bytes", 10, extraY);
+                }
 
                 Graphics overlay = UI.getFrame().getGraphics();
                 overlay.drawImage(imageBuffer, OVERLAY_X_OFFSET, OVERLAY_Y_OFFSET, null);
+                if (!firstFrameDrawn) {
+                    firstFrameDrawn = true;
+                    long sinceStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                    System.out.println("Time to first frame: " + sinceStart + " ms");
+                }
             } while (!controller.pauseSort); // Do while not paused
         });
         UIThread.start();
@@ -235,24 +239,19 @@ public class Visualizer {
     /*----------------Audio-----------------*/
 
     /**
-     * Initializes and starts the audio system for playback.
+     * Initializes the audio system once, on a background thread at startup.
      * <p>
      * This method does the following:
      * <ol>
-     *   <li>Closes any previously opened synthesizer.</li>
      *   <li>Loads sound font (Perfect Sine.sf2).</li>
      *   <li>Initializes a synth and opens it.</li>
      *   <li>Loads the first instrument from the sound font into the synthesizer.</li>
      *   <li>Sets the loaded instrument for the main MIDI channel.</li>
      *   <li>Turns off the reverb and sustain effects on the main channel.</li>
-     *   <li>Starts the audio thread for managing the note playback.</li>
      * </ol>
+     * The synthesizer then stays open for the lifetime of the program.
      */
-    public static void startAudio() { // TODO: Add and fix sound glitch on sort completion
-        if (synth != null && synth.isOpen()) {
-            synth.close(); // Close any previously opened synthesizer
-        }
-
+    private static void initAudio() {
         // Load sound font
         try (InputStream stream = Visualizer.class.getResourceAsStream("/sound/Perfect Sine.sf2")) {
             if (stream == null) {
@@ -265,11 +264,11 @@ public class Visualizer {
             if (!synth.loadInstrument(instrument)) {
                 throw new InvalidMidiDataException("Unable to load the instrument.");
             }
-            channel = synth.getChannels()[0];
-            channel.programChange(instrument.getPatch().getProgram());
-            channel.controlChange(91, 0); // Turn off reverb
-            channel.controlChange(64, 0);  // Turn off sustain
-            startAudioThread();
+            MidiChannel mainChannel = synth.getChannels()[0];
+            mainChannel.programChange(instrument.getPatch().getProgram());
+            mainChannel.controlChange(91, 0); // Turn off reverb
+            mainChannel.controlChange(64, 0);  // Turn off sustain
+            channel = mainChannel;
         } catch (MidiUnavailableException e) {
             JOptionPane.showMessageDialog(null, e.getMessage() + ": The MIDI device is unavailable. Sound is disabled.");
         } catch (IOException | InvalidMidiDataException e) {
@@ -277,6 +276,16 @@ public class Visualizer {
         }
     }
 
+    /**
+     * Starts audio playback for the current sort. Sorts that start before the audio
+     * system has finished initializing, or when it is unavailable, run silently.
+     */
+    public static void startAudio() { // TODO: Add and fix sound glitch on sort completion
+        if (channel != null) {
+            startAudioThread();
+        }
+    }
+
     /**
      * Initializes and starts the audio thread for playback. Pitch and velocity calculations adapted from ArrayV.
      * <p>
@@ -320,7 +329,9 @@ public class Visualizer {
     }
 
     private static void stopAudioThread() {
-        audioThread.interrupt();
+        if (audioThread != null) {
+            audioThread.interrupt();
+        }
     }
 
     /*----------------Array-----------------*/
@@ -333,8 +344,9 @@ public class Visualizer {
      * @throws RuntimeException if an InterruptedException occurs during the completion animation.
      */
     private static void reset() { // TODO: Reset during pause? Don't reset highlight color
-        synth.close();
-        channel.allSoundOff();
+        if (channel != null) {
+            channel.allSoundOff();
+        }
         controller.clearHighlights();
 
         // If we've completed sorting
@@ -352,6 +364,8 @@ public class Visualizer {
         stopAudioThread();
         controller.arrayAccesses = 0;
         controller.comparisons = 0;
+        controller.bytesMoved = 0;
+        controller.auxiliaryMemory = -1;
         controller.stopSort = false;
         controller.sorting = false;
         controller.clearHighlights();
@@ -387,7 +401,7 @@ public class Visualizer {
     private static void runAlgorithm(Sort sort) {
         startAudio();
         controller.sorting = true;
-        heading = sort.getName() + " " + sort.getTimeComplexity();
+        heading = sort.getName() + " " + sort.getTimeComplexity() + (sort.isStable() ? " stable" : "");
         sort.runSort(controller);
         controller.sorting = false;
         reset();
@@ -412,11 +426,54 @@ public class Visualizer {
 
     /**
      * The entry point of the Sorting Algorithm Visualizer application.
-     * Initializes and sets up the graphical user interface (GUI) for the visualizer.
+     * Initializes and sets up the graphical user interface (GUI) for the visualizer,
+     * or, when started with {@code --serve [port] [numberOfElements] [algorithm names...]}, runs
+     * headless and streams the sorts to browser viewers instead. With {@code --batch [options...]}
+     * it runs a matrix of algorithms, sizes, distributions and seeds, see {@code benchmarks.BatchRunner}.
      *
-     * @param args command-line arguments (not used in this application).
+     * @param args command-line arguments, see above.
+     * @throws IOException if the streaming server cannot listen on the requested port,
+     *                     or the batch results cannot be written.
+     * @throws InterruptedException if a batch is interrupted.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            forward("benchmarks.BatchRunner", Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--serve")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+            int numberOfElements = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+            List<String> names = args.length > 3
+                    ? List.of(args).subList(3, args.length)
+                    : List.of("Bubble Sort", "Insertion Sort", "Quick Sort");
+            List<Sort> sorts = new ArrayList<>();
+            for (String name : names) {
+                sorts.add(SortRegistry.find(name)
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown algorithm: " + name))
+                        .create());
+            }
+            new StreamServer(port).serve(sorts, numberOfElements);
+            return;
+        }
         setupGUI();
     }
+
+    /**
+     * Runs another entry point by name. The benchmarks package depends on this one, so referring
+     * to it directly would create a package cycle.
+     */
+    private static void forward(String mainClass, String[] args) throws IOException, InterruptedException {
+        try {
+            Class.forName(mainClass).getMethod("main", String[].class).invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException cause) throw cause;
+            if (e.getCause() instanceof InterruptedException cause) throw cause;
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot start " + mainClass, e);
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package records;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fixed-width binary records stored off-heap. Every record is a 4-byte int key followed by
+ * an opaque payload, laid out back to back in direct buffers, so sorting them creates
+ * no per-record objects and puts no pressure on the garbage collector.
+ * <p>
+ * A direct buffer is indexed by int and so holds at most 2 GiB. The records are therefore split
+ * across chunks of up to 1 GiB, each holding a power-of-two number of whole records, and a buffer
+ * can hold up to {@link Integer#MAX_VALUE} records of any total size. A record never spans two
+ * chunks, so its offset within its chunk always fits in an int. Moving to a single
+ * {@code MemorySegment} once that API is final only means replacing the chunk lookup with a long offset.
+ * </p>
+ * <p>
+ * The first 8 bytes of the payload (when it is at least that large) can be used as a tag,
+ * e.g. to remember a record's original position.
+ * </p>
+ */
+public final class RecordBuffer {
+    public static final int KEY_BYTES = 4;
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    private final ByteBuffer[] chunks;
+    private final int chunkShift; // log2 of the number of records per chunk
+    private final int chunkMask;
+    private final int recordSize;
+    private final int count;
+    public long bytesMoved; // Bytes copied while moving records
+
+    /**
+     * Class constructor allocates zeroed off-heap memory for the records.
+     *
+     * @param count       The number of records.
+     * @param payloadSize The number of payload bytes following each key.
+     * @throws IllegalArgumentException if a single record is larger than a chunk.
+     */
+    public RecordBuffer(int count, int payloadSize) {
+        this.count = count;
+        this.recordSize = KEY_BYTES + payloadSize;
+        if (recordSize > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("Records cannot be larger than " + MAX_CHUNK_BYTES + " bytes.");
+        }
+        int recordsPerChunk = Integer.highestOneBit(MAX_CHUNK_BYTES / recordSize);
+        chunkShift = Integer.numberOfTrailingZeros(recordsPerChunk);
+        chunkMask = recordsPerChunk - 1;
+
+        long totalBytes = (long) count * recordSize;
+        chunks = new ByteBuffer[(int) ((count + (long) recordsPerChunk - 1) >> chunkShift)];
+        for (int k = 0; k < chunks.length; k++) {
+            long chunkBytes = Math.min(totalBytes - ((long) k << chunkShift) * recordSize, (long) recordsPerChunk * recordSize);
+            chunks[k] = ByteBuffer.allocateDirect((int) chunkBytes).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int recordSize() {
+        return recordSize;
+    }
+
+    private ByteBuffer chunk(int i) {
+        return chunks[i >>> chunkShift];
+    }
+
+    /**
+     * @return The record's offset within its chunk, which always fits in an int.
+     */
+    private int offsetInChunk(int i) {
+        return (i & chunkMask) * recordSize;
+    }
+
+    public int key(int i) {
+        return chunk(i).getInt(offsetInChunk(i));
+    }
+
+    public void setKey(int i, int key) {
+        chunk(i).putInt(offsetInChunk(i), key);
+    }
+
+    public long tag(int i) {
+        checkTag();
+        return chunk(i).getLong(offsetInChunk(i) + KEY_BYTES);
+    }
+
+    public void setTag(int i, long tag) {
+        checkTag();
+        chunk(i).putLong(offsetInChunk(i) + KEY_BYTES, tag);
+    }
+
+    private void checkTag() {
+        if (recordSize < KEY_BYTES + Long.BYTES) {
+            throw new IllegalStateException("The payload is too small to hold a tag.");
+        }
+    }
+
+    /**
+     * Swaps two whole records in place, eight bytes at a time.
+     */
+    public void swap(int i, int j) {
+        ByteBuffer first = chunk(i), second = chunk(j);
+        int a = offsetInChunk(i), b = offsetInChunk(j);
+        int end = a + recordSize;
+        for (; a + Long.BYTES <= end; a += Long.BYTES, b += Long.BYTES) {
+            long temp = first.getLong(a);
+            first.putLong(a, second.getLong(b));
+            second.putLong(b, temp);
+        }
+        for (; a < end; a++, b++) {
+            byte temp = first.get(a);
+            first.put(a, second.get(b));
+            second.put(b, temp);
+        }
+        bytesMoved += 2L * recordSize;
+    }
+
+    /**
+     * Copies the record at {@code from} over the record at {@code to}.
+     */
+    public void copy(int from, int to) {
+        chunk(to).put(offsetInChunk(to), chunk(from), offsetInChunk(from), recordSize);
+        bytesMoved += recordSize;
+    }
+
+    /**
+     * Copies the record at {@code i} into a scratch buffer of at least {@link #recordSize()} bytes.
+     */
+    public void save(int i, ByteBuffer scratch) {
+        scratch.put(0, chunk(i), offsetInChunk(i), recordSize);
+        bytesMoved += recordSize;
+    }
+
+    /**
+     * Copies a record previously {@link #save saved} to the scratch buffer over the record at {@code i}.
+     */
+    public void restore(ByteBuffer scratch, int i) {
+        chunk(i).put(offsetInChunk(i), scratch, 0, recordSize);
+        bytesMoved += recordSize;
+    }
+}
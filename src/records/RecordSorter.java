@@ -0,0 +1,131 @@
+package records;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Sorts a {@link RecordBuffer} by key, using one of two strategies that trade comparisons for
+ * payload movement:
+ * <ul>
+ *   <li>{@link Strategy#SWAP}: in-place heapsort that swaps whole record slices. O(1) extra
+ *   memory, but every swap moves two full records. Not stable.</li>
+ *   <li>{@link Strategy#PERMUTATION}: sorts a packed key/index array instead of the records,
+ *   then applies the resulting permutation by following its cycles, so each record is moved
+ *   at most once. Needs 8 bytes per record of extra (on-heap) memory. Stable.</li>
+ * </ul>
+ */
+public final class RecordSorter {
+    /**
+     * How records are brought into key order.
+     */
+    public enum Strategy {
+        SWAP, PERMUTATION;
+
+        public boolean isStable() {
+            return this == PERMUTATION;
+        }
+    }
+
+    /**
+     * Receives every step of a sort, e.g. to animate it. All methods default to doing nothing.
+     */
+    public interface Listener {
+        default void compared(int i, int j) {
+        }
+
+        default void swapped(int i, int j) {
+        }
+
+        /**
+         * @param to  The position that was overwritten.
+         * @param key The key of the record now at that position.
+         */
+        default void written(int to, int key) {
+        }
+
+        default boolean stopped() {
+            return false;
+        }
+    }
+
+    private static final Listener NONE = new Listener() {
+    };
+
+    private RecordSorter() {
+    }
+
+    public static void sort(RecordBuffer records, Strategy strategy) {
+        sort(records, strategy, NONE);
+    }
+
+    public static void sort(RecordBuffer records, Strategy strategy, Listener listener) {
+        if (strategy == Strategy.SWAP) {
+            heapSort(records, listener);
+        } else {
+            permutationSort(records, listener);
+        }
+    }
+
+    private static void heapSort(RecordBuffer records, Listener listener) {
+        int n = records.count();
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            if (listener.stopped()) return;
+            siftDown(records, i, n, listener);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            if (listener.stopped()) return;
+            records.swap(0, end);
+            listener.swapped(0, end);
+            siftDown(records, 0, end, listener);
+        }
+    }
+
+    private static void siftDown(RecordBuffer records, int i, int size, Listener listener) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) return;
+            if (child + 1 < size) {
+                listener.compared(child + 1, child);
+                if (records.key(child + 1) > records.key(child)) child++;
+            }
+            listener.compared(child, i);
+            if (records.key(child) <= records.key(i)) return;
+            records.swap(i, child);
+            listener.swapped(i, child);
+            i = child;
+        }
+    }
+
+    private static void permutationSort(RecordBuffer records, Listener listener) {
+        int n = records.count();
+
+        // Packing the original index below the key makes every entry distinct, so the order is stable
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = ((long) records.key(i) << 32) | i;
+        }
+        Arrays.sort(order);
+        int[] source = new int[n]; // source[i] is the original position of the record that belongs at i
+        for (int i = 0; i < n; i++) source[i] = (int) order[i];
+
+        // Follow each cycle of the permutation, parking its first record in the scratch buffer
+        ByteBuffer scratch = ByteBuffer.allocateDirect(records.recordSize());
+        for (int start = 0; start < n; start++) {
+            if (listener.stopped()) return;
+            if (source[start] == start) continue;
+            int startKey = records.key(start);
+            records.save(start, scratch);
+            int j = start;
+            while (source[j] != start) {
+                int from = source[j];
+                records.copy(from, j);
+                listener.written(j, records.key(j));
+                source[j] = j;
+                j = from;
+            }
+            records.restore(scratch, j);
+            listener.written(j, startKey);
+            source[j] = j;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package server;
+
+import main.Controller;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes the state of a {@link Controller} into compact binary frames for streaming to viewers.
+ * <p>
+ * The encoder keeps a shadow copy of the array as last seen by every viewer. Each call to
+ * {@link #delta()} compares the live array against the shadow, emits only the indices that were
+ * written since the previous frame and updates the shadow. A late joiner receives {@link #keyframe()}
+ * (the shadow in full) and can then apply the deltas that follow.
+ * </p>
+ * All values are big-endian. Frame layouts:
+ * <pre>
+ * KEYFRAME: u8 type=0, u16 nameLength, u8[] name, i32 n, i64 comparisons, i64 arrayAccesses,
+ *           u16 highlightCount, i32[] highlights, i32[n] values
+ * DELTA:    u8 type=1, i64 comparisons, i64 arrayAccesses,
+ *           u16 highlightCount, i32[] highlights, i32 writeCount, (i32 index, i32 value)[]
+ * </pre>
+ */
+public class EventEncoder {
+    public static final byte KEYFRAME = 0;
+    public static final byte DELTA = 1;
+    private static final int MAX_HIGHLIGHTS = 64;
+
+    private final Controller controller;
+    private final byte[] name;
+    private final int[] shadow;
+    private final int[] highlights = new int[MAX_HIGHLIGHTS];
+    private final int[] writes;
+    private int highlightCount;
+
+    /**
+     * Class constructor snapshots the current state of the controller's array.
+     *
+     * @param controller The controller whose sort is being streamed.
+     * @param sortName   The name of the sorting algorithm, sent with every keyframe.
+     */
+    public EventEncoder(Controller controller, String sortName) {
+        this.controller = controller;
+        this.name = sortName.getBytes(StandardCharsets.UTF_8);
+        this.shadow = controller.array.clone();
+        this.writes = new int[shadow.length];
+    }
+
+    /**
+     * Builds a keyframe holding the full array as last broadcast, so a new viewer
+     * stays consistent with the deltas already sent to everyone else.
+     *
+     * @return The encoded keyframe.
+     */
+    public byte[] keyframe() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 2 + name.length + 4 + 8 + 8
+                + 2 + 4 * highlightCount + 4 * shadow.length);
+        buffer.put(KEYFRAME);
+        buffer.putShort((short) name.length).put(name);
+        buffer.putInt(shadow.length);
+        buffer.putLong(controller.comparisons).putLong(controller.arrayAccesses);
+        putHighlights(buffer);
+        for (int value : shadow) buffer.putInt(value);
+        return buffer.array();
+    }
+
+    /**
+     * Samples the controller and encodes every write since the previous call as one batch.
+     *
+     * @return The encoded delta frame.
+     */
+    public byte[] delta() {
+        int writeCount = 0;
+        int[] array = controller.array;
+        for (int i = 0; i < shadow.length; i++) {
+            int value = array[i];
+            if (value != shadow[i]) {
+                shadow[i] = value;
+                writes[writeCount++] = i;
+            }
+        }
+        sampleHighlights();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 + 8 + 2 + 4 * highlightCount + 4 + 8 * writeCount);
+        buffer.put(DELTA);
+        buffer.putLong(controller.comparisons).putLong(controller.arrayAccesses);
+        putHighlights(buffer);
+        buffer.putInt(writeCount);
+        for (int w = 0; w < writeCount; w++) {
+            buffer.putInt(writes[w]).putInt(shadow[writes[w]]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Collects the currently highlighted (compared or swapped) indices, skipping the -1 placeholders.
+     */
+    private void sampleHighlights() {
+        highlightCount = 0;
+        for (int i = 0; i < controller.highlighted.size() && highlightCount < MAX_HIGHLIGHTS; i++) {
+            Integer index;
+            try {
+                index = controller.highlighted.get(i);
+            } catch (IndexOutOfBoundsException e) {
+                break; // The list was replaced by the sorting thread mid-sample
+            }
+            if (index != null && index >= 0 && index < shadow.length) {
+                highlights[highlightCount++] = index;
+            }
+        }
+    }
+
+    private void putHighlights(ByteBuffer buffer) {
+        buffer.putShort((short) highlightCount);
+        for (int h = 0; h < highlightCount; h++) buffer.putInt(highlights[h]);
+    }
+}
@@ -0,0 +1,226 @@
+package server;
+
+import interfaces.Sort;
+import main.Controller;
+import utilities.Operations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs sorting algorithms without the ecs100 GUI and broadcasts their progress to any number of viewers.
+ * <p>
+ * Architecture:
+ * - The sort runs on the calling thread, exactly as it would behind a GUI button.
+ * - A broadcaster thread samples the {@link Controller} at a fixed frame rate and encodes the
+ * writes, highlights and counters since the last frame as one batched binary frame.
+ * - Every viewer connection is served by its own virtual thread with a bounded queue.
+ * <p>
+ * Viewers connect on a single port:
+ * - A browser requesting {@code /} receives a small canvas viewer page; any other path gets a 404.
+ * - A WebSocket upgrade request for {@code /stream} receives frames as binary WebSocket messages.
+ * - A plain TCP client sending the line {@code STREAM} receives length-prefixed frames.
+ * <p>
+ * New viewers always receive a keyframe before any delta. See {@link EventEncoder} for the frame layout.
+ * An algorithm that throws is reported and skipped, so one failure never stops the stream.
+ */
+public class StreamServer {
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int FRAMES_PER_SECOND = 30;
+    private static final int PAUSE_BETWEEN_SORTS = 2000;
+
+    private final int port;
+    private final List<ViewerConnection> viewers = new CopyOnWriteArrayList<>();
+    private final Object frameLock = new Object();
+    private volatile EventEncoder encoder;
+
+    /**
+     * @param port The TCP port to listen on.
+     */
+    public StreamServer(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Starts accepting viewers and broadcasting, then runs the given algorithms in a loop forever.
+     *
+     * @param sorts            The algorithms to cycle through.
+     * @param numberOfElements The number of elements in each shuffled array.
+     * @throws IOException if the server socket cannot be opened.
+     */
+    public void serve(List<Sort> sorts, int numberOfElements) throws IOException {
+        ServerSocket serverSocket = new ServerSocket(port);
+        Thread.ofPlatform().daemon().name("stream-acceptor").start(() -> acceptLoop(serverSocket));
+
+        ScheduledExecutorService broadcaster = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "stream-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        broadcaster.scheduleAtFixedRate(this::broadcast, 0, 1000 / FRAMES_PER_SECOND, TimeUnit.MILLISECONDS);
+        System.out.println("Streaming on http://localhost:" + port + "/");
+
+        while (true) {
+            for (Sort sort : sorts) {
+                Controller controller = new Controller(numberOfElements);
+                // Algorithms write highlights to the first few slots regardless of the array length
+                for (int i = 0; i < Math.max(numberOfElements, 3); i++) controller.highlighted.add(-1);
+                for (int i = 0; i < numberOfElements; i++) controller.array[i] = i;
+                Operations.shuffle(controller, controller.array);
+
+                synchronized (frameLock) {
+                    encoder = new EventEncoder(controller, sort.getName() + " " + sort.getTimeComplexity());
+                    for (ViewerConnection viewer : viewers) viewer.needsKeyframe = true;
+                }
+                controller.sorting = true;
+                try {
+                    sort.runSort(controller);
+                } catch (RuntimeException | StackOverflowError e) {
+                    System.err.println(sort.getName() + " failed, skipping it: " + e);
+                }
+                controller.sorting = false;
+                controller.clearHighlights();
+                try {
+                    Thread.sleep(PAUSE_BETWEEN_SORTS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes one frame and hands it to every viewer. Viewers that joined or fell behind
+     * since the last frame receive a keyframe instead of the delta.
+     */
+    private void broadcast() {
+        synchronized (frameLock) {
+            if (encoder == null) return;
+            byte[] delta = encoder.delta();
+            byte[] keyframe = null;
+            for (ViewerConnection viewer : viewers) {
+                if (viewer.closed) {
+                    viewers.remove(viewer);
+                } else if (viewer.needsKeyframe) {
+                    if (keyframe == null) keyframe = encoder.keyframe();
+                    viewer.needsKeyframe = false;
+                    viewer.offer(keyframe);
+                } else {
+                    viewer.offer(delta);
+                }
+            }
+        }
+    }
+
+    private void acceptLoop(ServerSocket serverSocket) {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().name("stream-viewer").start(() -> handle(socket));
+            } catch (IOException e) {
+                System.err.println("Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Identifies the kind of client from its first request line, then either serves
+     * the viewer page or registers it as a streaming viewer.
+     */
+    private void handle(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            String requestLine = in.readLine();
+            if (requestLine == null) {
+                socket.close();
+                return;
+            }
+            if (requestLine.trim().equals("STREAM")) {
+                register(new ViewerConnection(socket, false));
+                return;
+            }
+
+            String[] request = requestLine.split(" ");
+            String path = request.length > 1 ? request[1].split("\\?", 2)[0] : "";
+            String webSocketKey = null;
+            for (String header = in.readLine(); header != null && !header.isEmpty(); header = in.readLine()) {
+                int colon = header.indexOf(':');
+                if (colon > 0 && header.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+                    webSocketKey = header.substring(colon + 1).trim();
+                }
+            }
+
+            OutputStream out = socket.getOutputStream();
+            if (webSocketKey != null && path.equals("/stream")) {
+                out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                        + "Upgrade: websocket\r\n"
+                        + "Connection: Upgrade\r\n"
+                        + "Sec-WebSocket-Accept: " + acceptKey(webSocketKey) + "\r\n\r\n")
+                        .getBytes(StandardCharsets.ISO_8859_1));
+                out.flush();
+                register(new ViewerConnection(socket, true));
+            } else if (webSocketKey == null && path.equals("/")) {
+                servePage(out);
+                socket.close();
+            } else {
+                out.write(("HTTP/1.1 404 Not Found\r\n"
+                        + "Content-Length: 0\r\n"
+                        + "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                out.flush();
+                socket.close();
+            }
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void register(ViewerConnection viewer) {
+        viewers.add(viewer);
+        viewer.pump(); // Blocks this viewer's thread until it disconnects
+    }
+
+    private static void servePage(OutputStream out) throws IOException {
+        byte[] body;
+        try (InputStream stream = StreamServer.class.getResourceAsStream("/server/viewer.html")) {
+            if (stream == null) {
+                throw new IOException("Couldn't find the viewer resource.");
+            }
+            body = stream.readAllBytes();
+        }
+        out.write(("HTTP/1.1 200 OK\r\n"
+                + "Content-Type: text/html; charset=utf-8\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.write(body);
+        out.flush();
+    }
+
+    private static String acceptKey(String key) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            byte[] digest = sha1.digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
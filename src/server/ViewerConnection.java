@@ -0,0 +1,173 @@
+package server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A single connected viewer. Frames are queued by the broadcaster and written out by the
+ * connection's own thread, so one slow viewer never stalls the others.
+ * <p>
+ * When the queue overflows the backlog is dropped and the viewer is flagged to be
+ * resynchronised with a keyframe on the next broadcast.
+ * </p>
+ * A second thread reads from the viewer, so a closed connection is noticed straight away. For
+ * WebSocket viewers it answers pings with pongs and close frames with a close frame.
+ */
+class ViewerConnection {
+    private static final int QUEUE_CAPACITY = 256;
+    private static final byte[] WAKE_UP = new byte[0]; // Unblocks the writer once the reader sees the viewer leave
+    private static final int OPCODE_CLOSE = 0x8;
+    private static final int OPCODE_PING = 0x9;
+    private static final int OPCODE_PONG = 0xA;
+
+    private final Socket socket;
+    private final boolean webSocket;
+    private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Object writeLock = new Object();
+    private DataOutputStream out;
+    volatile boolean needsKeyframe = true;
+    volatile boolean closed = false;
+
+    /**
+     * @param socket    The accepted socket.
+     * @param webSocket Whether frames are wrapped as WebSocket binary messages or length-prefixed (plain TCP).
+     */
+    ViewerConnection(Socket socket, boolean webSocket) {
+        this.socket = socket;
+        this.webSocket = webSocket;
+    }
+
+    /**
+     * Queues a frame without blocking the broadcaster.
+     *
+     * @param frame The encoded frame.
+     */
+    void offer(byte[] frame) {
+        if (!queue.offer(frame)) {
+            queue.clear();
+            needsKeyframe = true;
+        }
+    }
+
+    /**
+     * Writes queued frames until the viewer disconnects. Runs on the connection's own thread,
+     * and starts the thread that reads from the viewer.
+     */
+    void pump() {
+        try (socket) {
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            Thread.ofVirtual().name("stream-viewer-reader").start(this::read);
+            while (!closed) {
+                byte[] frame = queue.take();
+                synchronized (writeLock) {
+                    // Batch everything that is already waiting into a single flush
+                    do {
+                        if (frame != WAKE_UP) write(out, frame);
+                    } while ((frame = queue.poll()) != null);
+                    out.flush();
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // Viewer went away; the server drops it on the next broadcast
+        } finally {
+            closed = true;
+        }
+    }
+
+    /**
+     * Reads from the viewer until it disconnects. Plain TCP viewers send nothing after the request
+     * line, so only the end of the stream matters; WebSocket viewers send masked control frames.
+     */
+    private void read() {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            if (!webSocket) {
+                while (in.read() >= 0) {
+                    // Ignore anything a plain viewer sends
+                }
+                return;
+            }
+            while (true) {
+                int first = in.readUnsignedByte();
+                int second = in.readUnsignedByte();
+                int opcode = first & 0x0F;
+                long length = second & 0x7F;
+                if (length == 126) length = in.readUnsignedShort();
+                else if (length == 127) length = in.readLong();
+                byte[] mask = new byte[4];
+                if ((second & 0x80) != 0) in.readFully(mask);
+                if (opcode != OPCODE_CLOSE && opcode != OPCODE_PING) {
+                    in.skipNBytes(length); // Pongs and data frames are not used
+                    continue;
+                }
+
+                // Control frames carry at most 125 bytes (RFC 6455, section 5.5)
+                byte[] payload = new byte[(int) Math.min(length, 125)];
+                in.readFully(payload);
+                for (int i = 0; i < payload.length; i++) payload[i] ^= mask[i % 4];
+                if (opcode == OPCODE_PING) {
+                    writeControl(OPCODE_PONG, payload);
+                } else {
+                    writeControl(OPCODE_CLOSE, payload.length >= 2 ? new byte[]{payload[0], payload[1]} : new byte[0]);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // Viewer went away
+        } finally {
+            closed = true;
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            queue.offer(WAKE_UP);
+        }
+    }
+
+    /**
+     * Writes an unmasked WebSocket control frame, between the writer thread's batches.
+     */
+    private void writeControl(int opcode, byte[] payload) throws IOException {
+        synchronized (writeLock) {
+            out.write(0x80 | opcode);
+            out.write(payload.length);
+            out.write(payload);
+            out.flush();
+        }
+    }
+
+    private void write(DataOutputStream out, byte[] frame) throws IOException {
+        if (webSocket) {
+            writeWebSocketHeader(out, frame.length);
+        } else {
+            out.writeInt(frame.length);
+        }
+        out.write(frame);
+    }
+
+    /**
+     * Writes an unmasked, final WebSocket binary frame header (RFC 6455, section 5.2).
+     */
+    private static void writeWebSocketHeader(OutputStream out, int length) throws IOException {
+        out.write(0x82);
+        if (length < 126) {
+            out.write(length);
+        } else if (length <= 0xFFFF) {
+            out.write(126);
+            out.write(length >>> 8);
+            out.write(length);
+        } else {
+            out.write(127);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) ((long) length >>> shift));
+            }
+        }
+    }
+}
@@ -40,6 +40,11 @@ public class BogoSort implements Sort {
 
     @Override
     public String getTimeComplexity() {
-        return "O(n^2)";
+        return "O((n+1)!)";
+    }
+
+    @Override
+    public int getMaxRecommendedSize() {
+        return 6;
     }
 }
@@ -0,0 +1,86 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+
+import static utilities.Delays.sleep;
+import static utilities.Operations.swap;
+
+/**
+ * Bottom-up heapsort (Wegener's variant of Floyd's idea). The element sifted from the root almost
+ * always belongs near the leaves, so instead of comparing it at every level, the sift first follows
+ * the path of larger children all the way down (one comparison per level), then climbs back up to
+ * the element's place and rotates the path. This roughly halves the comparisons of {@link HeapSort}.
+ */
+public class BottomUpHeapSort implements Sort {
+
+    /**
+     * Restores the max-heap property below {@code root} in a heap of {@code size} elements.
+     */
+    private static void siftDown(Controller c, int root, int size) {
+        // Descend along the larger children to a leaf
+        int j = root;
+        while (2 * j + 2 < size) {
+            c.comparisons++;
+            c.arrayAccesses += 2;
+            j = c.array[2 * j + 2] > c.array[2 * j + 1] ? 2 * j + 2 : 2 * j + 1;
+        }
+        if (2 * j + 1 < size) j = 2 * j + 1;
+
+        // Climb back up to the first element that is not smaller than the one being sifted
+        int value = c.array[root];
+        c.arrayAccesses++;
+        while (j > root) {
+            c.comparisons++;
+            c.arrayAccesses++;
+            if (c.array[j] >= value) break;
+            j = (j - 1) / 2;
+        }
+        c.highlighted.set(1, root);
+        c.highlighted.set(2, j);
+        sleep(c);
+
+        // Rotate: the sifted element takes j's place and every element on the path moves up one level
+        int carried = value;
+        while (j > root) {
+            int displaced = c.array[j];
+            c.array[j] = carried;
+            c.arrayAccesses += 2;
+            carried = displaced;
+            j = (j - 1) / 2;
+        }
+        c.array[root] = carried;
+        c.arrayAccesses++;
+    }
+
+    @Override
+    public void runSort(Controller c) {
+        int n = c.numberOfElements;
+        Heaps.highlightLevels(c, 0, n, 2);
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            if (c.stopSort) return;
+            siftDown(c, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            if (c.stopSort) return;
+            swap(c, 0, end);
+            Heaps.leaveHeap(c, end);
+            siftDown(c, 0, end);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Bottom-up Heap Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(nlog(n))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(1)";
+    }
+}
@@ -0,0 +1,43 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+
+/**
+ * Iterative bottom-up merge sort: merges neighbouring runs of width 1, 2, 4, ... in passes over
+ * the array. Stable, with O(n) auxiliary memory and no recursion.
+ */
+public class BottomUpMergeSort implements Sort {
+    @Override
+    public void runSort(Controller c) {
+        int n = c.numberOfElements;
+        if (n < 2) return;
+        int[] buffer = Merges.allocate(c, n / 2);
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n - width; lo += 2 * width) {
+                if (c.stopSort) return;
+                Merges.merge(c, lo, lo + width, Math.min(lo + 2 * width, n), buffer);
+            }
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort (Bottom-up)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(nlog(n))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+}
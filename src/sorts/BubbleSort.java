@@ -33,4 +33,14 @@ final public class BubbleSort implements Sort {
     public String getTimeComplexity() {
         return "O(n^2)";
     }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public int getMaxRecommendedSize() {
+        return QUADRATIC_MAX_SIZE;
+    }
 }
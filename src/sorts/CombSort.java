@@ -0,0 +1,55 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+import utilities.Operations;
+
+import static utilities.Delays.sleep;
+
+/**
+ * Comb sort: bubble sort over elements {@code gap} apart, shrinking the gap by a factor of 1.3
+ * each pass, which clears the small values stuck near the end ("turtles") that make bubble sort slow.
+ * Once the gap reaches 1 it keeps passing until nothing is swapped.
+ */
+public class CombSort implements Sort {
+    private static final double SHRINK_FACTOR = 1.3;
+
+    @Override
+    public void runSort(Controller c) {
+        int gap = c.numberOfElements;
+        boolean swapped = true;
+        while (gap > 1 || swapped) {
+            gap = Math.max(1, (int) (gap / SHRINK_FACTOR));
+            if (gap == 9 || gap == 10) gap = 11; // "Rule of 11": avoids gap sequences that end poorly
+            swapped = false;
+            for (int i = 0; i + gap < c.numberOfElements; i++) {
+                if (c.stopSort) return;
+                sleep(c, 1);
+                c.comparisons++;
+                c.arrayAccesses += 2;
+                if (c.array[i] > c.array[i + gap]) {
+                    Operations.swap(c, i, i + gap);
+                    swapped = true;
+                } else {
+                    c.highlighted.set(1, i + gap);
+                    c.highlighted.set(2, -5);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Comb Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n^2)";
+    }
+
+    @Override
+    public int getMaxRecommendedSize() {
+        return QUADRATIC_MAX_SIZE;
+    }
+}
@@ -0,0 +1,89 @@
+package sorts;
+
+import interfaces.Selection;
+import main.Controller;
+
+import static utilities.Delays.sleep;
+import static utilities.Operations.swap;
+
+/**
+ * Floyd–Rivest selection. On large ranges it first recursively selects within a small sample
+ * around the expected position of the target, so the pivot lands very close to it and the
+ * partition discards almost everything in a single pass (about n + min(k, n - k) comparisons).
+ * Afterwards {@code array[selectionRank]} holds its sorted value.
+ */
+public class FloydRivestSelect implements Selection {
+    private static final int SAMPLING_THRESHOLD = 600;
+
+    private static void select(Controller c, int left, int right, int k) {
+        while (right > left) {
+            if (c.stopSort) return;
+            if (right - left > SAMPLING_THRESHOLD) {
+                // Narrow to a sample range expected to contain the target, and select within it first
+                double n = right - left + 1;
+                double i = k - left + 1;
+                double z = Math.log(n);
+                double s = 0.5 * Math.exp(2 * z / 3);
+                double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2);
+                int newLeft = Math.max(left, (int) (k - i * s / n + sd));
+                int newRight = Math.min(right, (int) (k + (n - i) * s / n + sd));
+                select(c, newLeft, newRight, k);
+            }
+
+            // Partition [left, right] around t = array[k]
+            int t = c.array[k];
+            int i = left;
+            int j = right;
+            swap(c, left, k);
+            c.comparisons++;
+            c.arrayAccesses++;
+            if (c.array[right] > t) swap(c, right, left);
+            while (i < j) {
+                if (c.stopSort) return;
+                swap(c, i, j);
+                sleep(c);
+                i++;
+                j--;
+                while (c.array[i] < t) {
+                    c.comparisons++;
+                    c.arrayAccesses++;
+                    i++;
+                }
+                while (c.array[j] > t) {
+                    c.comparisons++;
+                    c.arrayAccesses++;
+                    j--;
+                }
+                c.comparisons += 2;
+                c.arrayAccesses += 2;
+            }
+            c.comparisons++;
+            c.arrayAccesses++;
+            if (c.array[left] == t) {
+                swap(c, left, j);
+            } else {
+                j++;
+                swap(c, j, right);
+            }
+
+            if (j <= k) left = j + 1;
+            if (k <= j) right = j - 1;
+        }
+    }
+
+    @Override
+    public void runSort(Controller controller) {
+        select(controller, 0, controller.numberOfElements - 1, controller.selectionRank);
+        controller.highlighted.set(0, controller.selectionRank);
+    }
+
+    @Override
+    public String getName() {
+        return "Floyd-Rivest Select";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n)";
+    }
+}
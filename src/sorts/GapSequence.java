@@ -0,0 +1,107 @@
+package sorts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gap sequences for {@link ShellSort}. Every sequence ends with a gap of 1, which makes the
+ * final pass a plain insertion sort; the earlier, larger gaps move elements long distances
+ * cheaply so that final pass has little left to do.
+ */
+public enum GapSequence {
+    /**
+     * Shell (1959): n/2, n/4, ..., 1. O(n^2) worst case.
+     */
+    SHELL("Shell") {
+        @Override
+        List<Integer> ascending(int n) {
+            List<Integer> gaps = new ArrayList<>();
+            for (int gap = n / 2; gap > 0; gap /= 2) gaps.add(0, gap);
+            return gaps;
+        }
+    },
+    /**
+     * Knuth (1973): (3^k - 1) / 2 up to n/3, i.e. 1, 4, 13, 40, ... O(n^(3/2)) worst case.
+     */
+    KNUTH("Knuth") {
+        @Override
+        List<Integer> ascending(int n) {
+            List<Integer> gaps = new ArrayList<>();
+            gaps.add(1);
+            for (long gap = 4; gap <= Math.max(n / 3, 1); gap = 3 * gap + 1) gaps.add((int) gap);
+            return gaps;
+        }
+    },
+    /**
+     * Sedgewick (1982): 4^k + 3 * 2^(k-1) + 1, i.e. 1, 8, 23, 77, 281, ... O(n^(4/3)) worst case.
+     */
+    SEDGEWICK("Sedgewick") {
+        @Override
+        List<Integer> ascending(int n) {
+            List<Integer> gaps = new ArrayList<>();
+            gaps.add(1);
+            for (int k = 1; ; k++) {
+                long gap = (1L << (2 * k)) + 3L * (1L << (k - 1)) + 1;
+                if (gap >= n) return gaps;
+                gaps.add((int) gap);
+            }
+        }
+    },
+    /**
+     * Tokuda (1992): ceil((9 * (9/4)^k - 4) / 5), i.e. 1, 4, 9, 20, 46, 103, ...
+     */
+    TOKUDA("Tokuda") {
+        @Override
+        List<Integer> ascending(int n) {
+            List<Integer> gaps = new ArrayList<>();
+            for (int k = 0; ; k++) {
+                long gap = (long) Math.ceil((9 * Math.pow(9 / 4d, k) - 4) / 5);
+                if (gap >= n && !gaps.isEmpty()) return gaps;
+                gaps.add((int) gap);
+            }
+        }
+    },
+    /**
+     * Ciura (2001): the empirically best known 1, 4, 10, 23, 57, 132, 301, 701, 1750,
+     * extended by a factor of 2.25 beyond that.
+     */
+    CIURA("Ciura") {
+        private static final int[] MEASURED = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+
+        @Override
+        List<Integer> ascending(int n) {
+            List<Integer> gaps = new ArrayList<>();
+            for (int gap : MEASURED) {
+                if (gap >= n && !gaps.isEmpty()) return gaps;
+                gaps.add(gap);
+            }
+            for (long gap = (long) (1750 * 2.25); gap < n; gap = (long) (gap * 2.25)) gaps.add((int) gap);
+            return gaps;
+        }
+    };
+
+    private final String displayName;
+
+    GapSequence(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the gaps to use for an array of the given length, largest first.
+     *
+     * @param n The number of elements to sort.
+     * @return The gaps in descending order, always ending with 1.
+     */
+    public int[] gaps(int n) {
+        List<Integer> ascending = ascending(n);
+        int[] gaps = new int[ascending.size()];
+        for (int i = 0; i < gaps.length; i++) gaps[i] = ascending.get(gaps.length - 1 - i);
+        return gaps;
+    }
+
+    abstract List<Integer> ascending(int n);
+}
@@ -0,0 +1,40 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+
+import static utilities.Operations.swap;
+
+/**
+ * Classic binary heapsort: builds a max-heap in O(n), then repeatedly swaps the root to the end
+ * of the shrinking heap and sifts the new root down, comparing against both children at every level.
+ */
+public class HeapSort implements Sort {
+    @Override
+    public void runSort(Controller c) {
+        int n = c.numberOfElements;
+        Heaps.highlightLevels(c, 0, n, 2);
+        Heaps.heapify(c, 0, n, true);
+        for (int end = n - 1; end > 0; end--) {
+            if (c.stopSort) return;
+            swap(c, 0, end);
+            Heaps.leaveHeap(c, end);
+            Heaps.siftDown(c, 0, 0, end, true);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Heap Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(nlog(n))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(1)";
+    }
+}
@@ -0,0 +1,40 @@
+package sorts;
+
+import interfaces.Selection;
+import main.Controller;
+
+import static utilities.Operations.swap;
+
+/**
+ * Heap-based top-k (partial heapsort): builds a max-heap over the whole array in O(n), then pops
+ * only the {@code k = numberOfElements - selectionRank} largest elements to the end, in order.
+ * Everything below {@code selectionRank} is left unsorted.
+ */
+public class HeapTopK implements Selection {
+    @Override
+    public void runSort(Controller c) {
+        int n = c.numberOfElements;
+        Heaps.heapify(c, 0, n, true);
+        for (int end = n - 1; end >= c.selectionRank && end > 0; end--) {
+            if (c.stopSort) return;
+            swap(c, 0, end);
+            Heaps.siftDown(c, 0, 0, end, true);
+        }
+        c.highlighted.set(0, c.selectionRank);
+    }
+
+    @Override
+    public boolean sortsAboveRank() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Heap Top-k";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n + klog(n))";
+    }
+}
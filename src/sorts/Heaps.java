@@ -0,0 +1,85 @@
+package sorts;
+
+import main.Controller;
+
+import static utilities.Delays.sleep;
+import static utilities.Operations.swap;
+
+/**
+ * Binary heap helpers shared by the heap-based algorithms. The heap occupies
+ * {@code array[base, base + size)} with its root at {@code base}.
+ */
+final class Heaps {
+    private Heaps() {
+    }
+
+    /**
+     * Rearranges {@code array[base, base + size)} into a heap in O(size) using Floyd's bottom-up construction.
+     *
+     * @param maxHeap Whether the largest (true) or the smallest (false) element ends up at the root.
+     */
+    static void heapify(Controller c, int base, int size, boolean maxHeap) {
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            if (c.stopSort) return;
+            siftDown(c, base, i, size, maxHeap);
+        }
+    }
+
+    /**
+     * Moves the element at heap position {@code i} down until the heap property holds below it.
+     *
+     * @param maxHeap Whether the heap is ordered largest-first (true) or smallest-first (false).
+     */
+    static void siftDown(Controller c, int base, int i, int size, boolean maxHeap) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) return;
+            if (child + 1 < size) {
+                c.comparisons++;
+                c.arrayAccesses += 2;
+                if (before(c.array[base + child + 1], c.array[base + child], maxHeap)) child++;
+            }
+            c.comparisons++;
+            c.arrayAccesses += 2;
+            if (!before(c.array[base + child], c.array[base + i], maxHeap)) return;
+            swap(c, base + i, base + child);
+            sleep(c);
+            i = child;
+        }
+    }
+
+    /**
+     * Highlights every element of tree levels 2, 4, 6, ... so the heap's levels show as alternating
+     * bands. Element {@code j} is highlighted through slot {@code j}; levels 0 and 1 are left plain,
+     * which keeps slots 0 to 2 free for the swap highlights.
+     *
+     * @param offset The index of the root; level k starts at logical position (arity^k - 1) / (arity - 1).
+     * @param size   The number of elements in the heap.
+     * @param arity  The number of children per node.
+     */
+    static void highlightLevels(Controller c, int offset, int size, int arity) {
+        for (int j = 3; j < c.highlighted.size(); j++) c.highlighted.set(j, -1);
+        long levelStart = 0, width = 1;
+        for (int level = 0; levelStart < size; level++) {
+            if (level >= 2 && level % 2 == 0) {
+                for (long p = levelStart; p < Math.min(levelStart + width, size); p++) {
+                    long j = offset + p;
+                    if (j >= 3 && j < c.highlighted.size()) c.highlighted.set((int) j, (int) j);
+                }
+            }
+            levelStart += width;
+            width = Math.min(width * arity, size);
+        }
+    }
+
+    /**
+     * Removes the highlight of an element that has just left the heap, in constant time.
+     */
+    static void leaveHeap(Controller c, int index) {
+        if (index >= 3 && index < c.highlighted.size()) c.highlighted.set(index, -1);
+    }
+
+    private static boolean before(int a, int b, boolean maxHeap) {
+        return maxHeap ? a > b : a < b;
+    }
+}
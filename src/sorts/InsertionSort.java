@@ -33,4 +33,9 @@ public class InsertionSort implements Sort {
     public String getTimeComplexity() {
         return "O(n^2)";
     }
+
+    @Override
+    public int getMaxRecommendedSize() {
+        return QUADRATIC_MAX_SIZE;
+    }
 }
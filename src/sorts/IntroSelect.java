@@ -0,0 +1,92 @@
+package sorts;
+
+import interfaces.Selection;
+import main.Controller;
+
+import static utilities.Delays.sleep;
+import static utilities.Operations.swap;
+
+/**
+ * Introselect (nth_element): quickselect with a median-of-three pivot and a three-way partition,
+ * falling back to heap selection once the partitions stop shrinking, which bounds the worst case
+ * at O(n log n). Afterwards {@code array[selectionRank]} holds its sorted value, with nothing
+ * larger to its left and nothing smaller to its right.
+ */
+public class IntroSelect implements Selection {
+
+    private static void select(Controller c, int lo, int hi, int k) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi > lo) {
+            if (c.stopSort) return;
+            if (depthLimit-- == 0) {
+                heapSelect(c, lo, hi, k);
+                return;
+            }
+            medianOfThree(c, lo, lo + (hi - lo) / 2, hi);
+
+            // Three-way partition around array[lo]: [lo, lt) < x, [lt, gt] == x, (gt, hi] > x
+            int x = c.array[lo];
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (c.stopSort) return;
+                c.highlighted.set(1, i);
+                sleep(c);
+                c.comparisons += 2;
+                c.arrayAccesses++;
+                if (c.array[i] < x) swap(c, lt++, i++);
+                else if (c.array[i] > x) swap(c, i, gt--);
+                else i++;
+            }
+
+            if (k < lt) hi = lt - 1;
+            else if (k > gt) lo = gt + 1;
+            else return;
+        }
+    }
+
+    /**
+     * Orders the three candidates so that their median ends up at {@code lo}, to be used as the pivot.
+     */
+    private static void medianOfThree(Controller c, int lo, int mid, int hi) {
+        c.comparisons += 3;
+        c.arrayAccesses += 6;
+        if (c.array[mid] < c.array[lo]) swap(c, mid, lo);
+        if (c.array[hi] < c.array[lo]) swap(c, hi, lo);
+        if (c.array[hi] < c.array[mid]) swap(c, hi, mid);
+        swap(c, lo, mid);
+    }
+
+    /**
+     * Keeps the {@code k - lo + 1} smallest elements of the range in a max-heap, then moves its root to {@code k}.
+     */
+    private static void heapSelect(Controller c, int lo, int hi, int k) {
+        int size = k - lo + 1;
+        Heaps.heapify(c, lo, size, true);
+        for (int i = k + 1; i <= hi; i++) {
+            if (c.stopSort) return;
+            c.comparisons++;
+            c.arrayAccesses += 2;
+            if (c.array[i] < c.array[lo]) {
+                swap(c, i, lo);
+                Heaps.siftDown(c, lo, 0, size, true);
+            }
+        }
+        swap(c, lo, k);
+    }
+
+    @Override
+    public void runSort(Controller controller) {
+        select(controller, 0, controller.numberOfElements - 1, controller.selectionRank);
+        controller.highlighted.set(0, controller.selectionRank);
+    }
+
+    @Override
+    public String getName() {
+        return "Introselect";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n)";
+    }
+}
@@ -0,0 +1,181 @@
+package sorts;
+
+import main.Controller;
+
+import static utilities.Delays.sleep;
+import static utilities.Operations.swap;
+
+/**
+ * Stable merge primitives shared by the merge sorts. A merge uses the auxiliary buffer whenever
+ * the smaller of the two runs fits in it; otherwise it splits the problem with a binary search and
+ * a rotation (as in SymMerge) until the pieces fit, so any buffer size from zero upwards works.
+ * Only accesses to the controller's array are counted, not to the buffer.
+ */
+final class Merges {
+    private Merges() {
+    }
+
+    /**
+     * Stably merges the sorted runs {@code [lo, mid)} and {@code [mid, hi)}.
+     *
+     * @param buffer Auxiliary space, of any length including zero.
+     */
+    static void merge(Controller c, int lo, int mid, int hi, int[] buffer) {
+        while (lo < mid && mid < hi) {
+            if (c.stopSort) return;
+            c.comparisons++;
+            c.arrayAccesses += 2;
+            if (c.array[mid - 1] <= c.array[mid]) return; // Already in order
+
+            int left = mid - lo, right = hi - mid;
+            if (left <= right && left <= buffer.length) {
+                mergeForward(c, lo, mid, hi, buffer);
+                return;
+            }
+            if (right <= buffer.length) {
+                mergeBackward(c, lo, mid, hi, buffer);
+                return;
+            }
+
+            // Split at the middle of the longer run and find where that element belongs in the other.
+            // Equal elements from the right run never move ahead of equal elements from the left run.
+            int cut1, cut2;
+            if (left >= right) {
+                cut1 = lo + left / 2;
+                cut2 = lowerBound(c, mid, hi, c.array[cut1]);
+            } else {
+                cut2 = mid + right / 2;
+                cut1 = upperBound(c, lo, mid, c.array[cut2]);
+            }
+            rotate(c, cut1, mid, cut2);
+            int newMid = cut1 + (cut2 - mid);
+            merge(c, lo, cut1, newMid, buffer);
+            lo = newMid;
+            mid = cut2;
+        }
+    }
+
+    /**
+     * Merges front to back after moving the left run into the buffer.
+     */
+    private static void mergeForward(Controller c, int lo, int mid, int hi, int[] buffer) {
+        int length = mid - lo;
+        System.arraycopy(c.array, lo, buffer, 0, length);
+        c.arrayAccesses += length;
+        int i = 0, j = mid, k = lo;
+        while (i < length && j < hi) {
+            if (c.stopSort) return;
+            c.comparisons++;
+            c.arrayAccesses += 2;
+            c.array[k++] = c.array[j] < buffer[i] ? c.array[j++] : buffer[i++];
+            c.highlighted.set(1, k - 1);
+            c.highlighted.set(2, j);
+            sleep(c);
+        }
+        while (i < length) {
+            c.array[k++] = buffer[i++];
+            c.arrayAccesses++;
+        }
+    }
+
+    /**
+     * Merges back to front after moving the right run into the buffer.
+     */
+    private static void mergeBackward(Controller c, int lo, int mid, int hi, int[] buffer) {
+        int length = hi - mid;
+        System.arraycopy(c.array, mid, buffer, 0, length);
+        c.arrayAccesses += length;
+        int i = mid - 1, j = length - 1, k = hi - 1;
+        while (i >= lo && j >= 0) {
+            if (c.stopSort) return;
+            c.comparisons++;
+            c.arrayAccesses += 2;
+            c.array[k--] = buffer[j] < c.array[i] ? c.array[i--] : buffer[j--];
+            c.highlighted.set(1, k + 1);
+            c.highlighted.set(2, i);
+            sleep(c);
+        }
+        while (j >= 0) {
+            c.array[k--] = buffer[j--];
+            c.arrayAccesses++;
+        }
+    }
+
+    /**
+     * Stably sorts a short range by shifting, without any auxiliary space.
+     */
+    static void insertionSort(Controller c, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int value = c.array[i];
+            c.arrayAccesses++;
+            int j = i;
+            c.highlighted.set(1, i);
+            while (j > lo) {
+                if (c.stopSort) return;
+                c.comparisons++;
+                c.arrayAccesses++;
+                if (c.array[j - 1] <= value) break;
+                c.array[j] = c.array[j - 1];
+                c.arrayAccesses += 2;
+                c.highlighted.set(2, j - 1);
+                sleep(c);
+                j--;
+            }
+            c.array[j] = value;
+            c.arrayAccesses++;
+        }
+    }
+
+    /**
+     * Moves {@code [mid, hi)} in front of {@code [lo, mid)} using three reversals.
+     */
+    static void rotate(Controller c, int lo, int mid, int hi) {
+        reverse(c, lo, mid);
+        reverse(c, mid, hi);
+        reverse(c, lo, hi);
+    }
+
+    static void reverse(Controller c, int lo, int hi) {
+        for (int i = lo, j = hi - 1; i < j; i++, j--) {
+            if (c.stopSort) return;
+            swap(c, i, j);
+            sleep(c);
+        }
+    }
+
+    /**
+     * @return The first index in {@code [lo, hi)} whose element is not less than the value.
+     */
+    private static int lowerBound(Controller c, int lo, int hi, int value) {
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            c.comparisons++;
+            c.arrayAccesses++;
+            if (c.array[m] < value) lo = m + 1;
+            else hi = m;
+        }
+        return lo;
+    }
+
+    /**
+     * @return The first index in {@code [lo, hi)} whose element is greater than the value.
+     */
+    private static int upperBound(Controller c, int lo, int hi, int value) {
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            c.comparisons++;
+            c.arrayAccesses++;
+            if (c.array[m] <= value) lo = m + 1;
+            else hi = m;
+        }
+        return lo;
+    }
+
+    /**
+     * Allocates a merge buffer and reports its size in {@link Controller#auxiliaryMemory}, even when it is empty.
+     */
+    static int[] allocate(Controller c, int length) {
+        c.auxiliaryMemory = Math.max(c.auxiliaryMemory, (long) length * Integer.BYTES);
+        return new int[length];
+    }
+}
@@ -0,0 +1,88 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+
+import java.util.Arrays;
+
+/**
+ * Natural merge sort: splits the array into the runs already present (reversing strictly
+ * descending runs, which keeps it stable), then merges neighbouring runs pairwise until one
+ * remains. Sorted input takes a single pass of n - 1 comparisons.
+ */
+public class NaturalMergeSort implements Sort {
+    @Override
+    public void runSort(Controller c) {
+        int n = c.numberOfElements;
+        if (n < 2) return;
+
+        // runs[i] is the start of the i-th run, and runs[count] is n
+        int[] runs = new int[16];
+        int count = 0;
+        for (int lo = 0; lo < n; ) {
+            if (c.stopSort) return;
+            if (count + 1 == runs.length) runs = Arrays.copyOf(runs, runs.length * 2);
+            runs[count++] = lo;
+            int hi = lo + 1;
+            c.highlighted.set(1, lo);
+            if (hi < n) {
+                c.comparisons++;
+                c.arrayAccesses += 2;
+                if (c.array[hi] < c.array[lo]) {
+                    while (++hi < n) {
+                        c.comparisons++;
+                        c.arrayAccesses += 2;
+                        if (c.array[hi] >= c.array[hi - 1]) break;
+                    }
+                    Merges.reverse(c, lo, hi);
+                } else {
+                    while (++hi < n) {
+                        c.comparisons++;
+                        c.arrayAccesses += 2;
+                        if (c.array[hi] < c.array[hi - 1]) break;
+                    }
+                }
+            }
+            lo = hi;
+        }
+        runs[count] = n;
+        long runTable = (long) runs.length * Integer.BYTES;
+        if (count == 1) {
+            c.auxiliaryMemory = runTable;
+            return;
+        }
+
+        int[] buffer = Merges.allocate(c, n / 2);
+        c.auxiliaryMemory += runTable;
+        while (count > 1) {
+            int merged = 0;
+            for (int i = 0; i < count; i += 2) {
+                if (c.stopSort) return;
+                if (i + 1 < count) Merges.merge(c, runs[i], runs[i + 1], runs[i + 2], buffer);
+                runs[merged++] = runs[i];
+            }
+            runs[merged] = n;
+            count = merged;
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort (Natural)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(nlog(n))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+}
@@ -0,0 +1,116 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+import records.RecordBuffer;
+import records.RecordSorter;
+
+import static utilities.Delays.sleep;
+
+/**
+ * Visualises the off-heap {@link RecordSorter}. The controller's array is treated as the keys of
+ * fixed-width records whose payloads live in a {@link RecordBuffer}; every record move made by the
+ * engine is mirrored onto the array, and the payload bytes moved are reported in
+ * {@link Controller#bytesMoved}.
+ */
+public class RecordSort implements Sort {
+    private static final int DEFAULT_PAYLOAD = 60; // 64-byte records, one per cache line
+
+    private final RecordSorter.Strategy strategy;
+    private final int payloadSize;
+
+    public RecordSort(RecordSorter.Strategy strategy) {
+        this(strategy, DEFAULT_PAYLOAD);
+    }
+
+    /**
+     * The swapping strategy, registered as a service provider.
+     */
+    public static class Swap extends RecordSort {
+        public Swap() {
+            super(RecordSorter.Strategy.SWAP);
+        }
+    }
+
+    /**
+     * The permutation strategy, registered as a service provider.
+     */
+    public static class Permutation extends RecordSort {
+        public Permutation() {
+            super(RecordSorter.Strategy.PERMUTATION);
+        }
+    }
+
+    /**
+     * @param strategy    How the engine brings records into order.
+     * @param payloadSize The payload bytes carried by each record, at least 8 for the position tag.
+     */
+    public RecordSort(RecordSorter.Strategy strategy, int payloadSize) {
+        this.strategy = strategy;
+        this.payloadSize = payloadSize;
+    }
+
+    @Override
+    public void runSort(Controller c) {
+        RecordBuffer records = new RecordBuffer(c.numberOfElements, payloadSize);
+        for (int i = 0; i < c.numberOfElements; i++) {
+            records.setKey(i, c.array[i]);
+            records.setTag(i, i);
+        }
+
+        RecordSorter.sort(records, strategy, new RecordSorter.Listener() {
+            @Override
+            public void compared(int i, int j) {
+                c.comparisons++;
+                c.arrayAccesses += 2;
+            }
+
+            @Override
+            public void swapped(int i, int j) {
+                c.highlighted.set(1, i);
+                c.highlighted.set(2, j);
+                c.arrayAccesses += 2;
+                int temp = c.array[i];
+                c.array[i] = c.array[j];
+                c.array[j] = temp;
+                c.bytesMoved = records.bytesMoved;
+                sleep(c);
+            }
+
+            @Override
+            public void written(int to, int key) {
+                c.highlighted.set(1, to);
+                c.arrayAccesses++;
+                c.array[to] = key;
+                c.bytesMoved = records.bytesMoved;
+                sleep(c);
+            }
+
+            @Override
+            public boolean stopped() {
+                return c.stopSort;
+            }
+        });
+        c.bytesMoved = records.bytesMoved;
+    }
+
+    @Override
+    public String getName() {
+        return strategy == RecordSorter.Strategy.SWAP ? "Record Sort (swap)" : "Record Sort (permutation)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(nlog(n))";
+    }
+
+    @Override
+    public boolean isStable() {
+        return strategy.isStable();
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return strategy == RecordSorter.Strategy.SWAP ? "O(1)" : "O(n)";
+    }
+}
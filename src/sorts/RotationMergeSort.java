@@ -0,0 +1,111 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+
+/**
+ * Bottom-up merge sort with a bounded auxiliary buffer: insertion sorts runs of 16, then merges
+ * them pairwise. Merges whose smaller run fits in the buffer go through it; larger ones are split
+ * by binary search and rotation (SymMerge style) until the pieces fit, so with no buffer at all it
+ * sorts in place. Stable for every buffer size; smaller buffers trade memory for extra element moves.
+ * Unlike a block merge (WikiSort, GrailSort) it does not tag or swap blocks.
+ */
+public class RotationMergeSort implements Sort {
+    private static final int RUN = 16;
+
+    /**
+     * How much auxiliary memory the merges may use, as a function of the array length.
+     */
+    public enum Buffer {
+        HALF("n/2"),
+        SQRT("sqrt(n)"),
+        NONE("no");
+
+        private final String displayName;
+
+        Buffer(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * @return The buffer length, in elements, for an array of n elements.
+         */
+        public int length(int n) {
+            return switch (this) {
+                case HALF -> n / 2;
+                case SQRT -> (int) Math.ceil(Math.sqrt(n));
+                case NONE -> 0;
+            };
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private final Buffer buffer;
+
+    public RotationMergeSort() {
+        this(Buffer.SQRT);
+    }
+
+    public RotationMergeSort(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /*
+     * The other buffer sizes, registered as service providers. The default constructor uses a sqrt(n) buffer.
+     */
+
+    public static class HalfBuffer extends RotationMergeSort {
+        public HalfBuffer() {
+            super(Buffer.HALF);
+        }
+    }
+
+    public static class InPlace extends RotationMergeSort {
+        public InPlace() {
+            super(Buffer.NONE);
+        }
+    }
+
+    @Override
+    public void runSort(Controller c) {
+        int n = c.numberOfElements;
+        for (int lo = 0; lo < n; lo += RUN) {
+            if (c.stopSort) return;
+            Merges.insertionSort(c, lo, Math.min(lo + RUN, n));
+        }
+        int[] space = Merges.allocate(c, buffer.length(n));
+        for (int width = RUN; width < n; width *= 2) {
+            for (int lo = 0; lo < n - width; lo += 2 * width) {
+                if (c.stopSort) return;
+                Merges.merge(c, lo, lo + width, Math.min(lo + 2 * width, n), space);
+            }
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Rotation Merge Sort (" + buffer.getDisplayName() + " buffer)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return buffer == Buffer.HALF ? "O(nlog(n))" : "O(nlog^2(n))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return switch (buffer) {
+            case HALF -> "O(n)";
+            case SQRT -> "O(sqrt(n))";
+            case NONE -> "O(log(n))";
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+
+import static utilities.Delays.sleep;
+
+/**
+ * Shellsort: insertion sort over elements {@code gap} apart, for each gap of a {@link GapSequence}
+ * in turn. Elements are shifted rather than swapped, so each step costs one write.
+ */
+public class ShellSort implements Sort {
+    private final GapSequence sequence;
+
+    public ShellSort() {
+        this(GapSequence.CIURA);
+    }
+
+    public ShellSort(GapSequence sequence) {
+        this.sequence = sequence;
+    }
+
+    /*
+     * The other gap sequences, registered as service providers. The default constructor uses Ciura's.
+     */
+
+    public static class Shell extends ShellSort {
+        public Shell() {
+            super(GapSequence.SHELL);
+        }
+    }
+
+    public static class Knuth extends ShellSort {
+        public Knuth() {
+            super(GapSequence.KNUTH);
+        }
+    }
+
+    public static class Sedgewick extends ShellSort {
+        public Sedgewick() {
+            super(GapSequence.SEDGEWICK);
+        }
+    }
+
+    public static class Tokuda extends ShellSort {
+        public Tokuda() {
+            super(GapSequence.TOKUDA);
+        }
+    }
+
+    @Override
+    public void runSort(Controller c) {
+        for (int gap : sequence.gaps(c.numberOfElements)) {
+            for (int i = gap; i < c.numberOfElements; i++) {
+                int value = c.array[i];
+                c.arrayAccesses++;
+                int j = i;
+                c.highlighted.set(1, i);
+                while (j >= gap) {
+                    if (c.stopSort) return;
+                    c.comparisons++;
+                    c.arrayAccesses++;
+                    if (c.array[j - gap] <= value) break;
+                    c.array[j] = c.array[j - gap];
+                    c.arrayAccesses += 2;
+                    c.highlighted.set(2, j - gap);
+                    sleep(c);
+                    j -= gap;
+                }
+                c.array[j] = value;
+                c.arrayAccesses++;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Shell Sort (" + sequence.getDisplayName() + ")";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return switch (sequence) {
+            case SHELL -> "O(n^2)";
+            case KNUTH -> "O(n^(3/2))";
+            case SEDGEWICK -> "O(n^(4/3))";
+            case TOKUDA, CIURA -> "~O(n^(4/3))"; // No proven bound; empirically no worse than Sedgewick
+        };
+    }
+
+    @Override
+    public int getMaxRecommendedSize() {
+        return sequence == GapSequence.SHELL ? QUADRATIC_MAX_SIZE : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,60 @@
+package sorts;
+
+import interfaces.Selection;
+import main.Controller;
+
+import static utilities.Delays.sleep;
+import static utilities.Operations.swap;
+
+/**
+ * Streaming top-k, visualised in place. The last {@code k = numberOfElements - selectionRank} slots
+ * act as the bounded min-heap of {@link utilities.TopK}, and the rest of the array is read once,
+ * left to right, as if it were arriving over a stream. Values that beat the heap's root replace it.
+ * The surviving k values are finally put in order at the end of the array.
+ */
+public class StreamingTopK implements Selection {
+    @Override
+    public void runSort(Controller c) {
+        int base = c.selectionRank;
+        int k = c.numberOfElements - base;
+        if (k <= 0) return;
+        Heaps.heapify(c, base, k, false);
+
+        for (int i = 0; i < base; i++) {
+            if (c.stopSort) return;
+            c.highlighted.set(1, i);
+            c.highlighted.set(2, base);
+            sleep(c);
+            c.comparisons++;
+            c.arrayAccesses += 2;
+            if (c.array[i] > c.array[base]) {
+                swap(c, i, base);
+                Heaps.siftDown(c, base, 0, k, false);
+            }
+        }
+
+        // Sort the survivors: turn them into a max-heap and pop each to the end of the range
+        Heaps.heapify(c, base, k, true);
+        for (int end = k - 1; end > 0; end--) {
+            if (c.stopSort) return;
+            swap(c, base, base + end);
+            Heaps.siftDown(c, base, 0, end, true);
+        }
+        c.highlighted.set(0, base);
+    }
+
+    @Override
+    public boolean sortsAboveRank() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Streaming Top-k";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(nlog(k))";
+    }
+}
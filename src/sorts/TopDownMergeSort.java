@@ -0,0 +1,45 @@
+package sorts;
+
+import interfaces.Sort;
+import main.Controller;
+
+/**
+ * Recursive top-down merge sort: sorts each half, then merges them through a buffer the size of
+ * the left half. Stable, with O(n) auxiliary memory.
+ */
+public class TopDownMergeSort implements Sort {
+    @Override
+    public void runSort(Controller c) {
+        int n = c.numberOfElements;
+        if (n < 2) return;
+        sort(c, 0, n, Merges.allocate(c, (n + 1) / 2));
+    }
+
+    private void sort(Controller c, int lo, int hi, int[] buffer) {
+        if (hi - lo < 2 || c.stopSort) return;
+        int mid = (lo + hi) >>> 1;
+        sort(c, lo, mid, buffer);
+        sort(c, mid, hi, buffer);
+        Merges.merge(c, lo, mid, hi, buffer);
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort (Top-down)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(nlog(n))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+}
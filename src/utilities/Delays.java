@@ -14,10 +14,12 @@ final public class Delays {
     /**
      * Introduces a delay that depends on the number of elements being sorted and the current animation speed.
      * The delay is inversely proportional to the square root of the number of elements.
+     * No delay is introduced when the controller's animations are disabled.
      *
      * @throws RuntimeException if the sleep operation is interrupted.
      */
     public static void sleep(final Controller controller) {
+        if (!controller.animate) return;
         try {
             Thread.sleep(sleepTime(controller, 1));
         } catch (InterruptedException e) {
@@ -33,6 +35,7 @@ final public class Delays {
      * @throws RuntimeException if the sleep operation is interrupted.
      */
     public static void sleep(Controller controller, double delayMultiplier) {
+        if (!controller.animate) return;
         try {
             Thread.sleep(sleepTime(controller, delayMultiplier));
         } catch (InterruptedException e) {
@@ -53,7 +56,6 @@ final public class Delays {
 
         // Apply the delay multiplier
         adjustedDelay = (int) (adjustedDelay * delayMultiplier);
-        System.out.println();
         return Math.max(minAnimationDelay, Math.min(adjustedDelay, maxAnimationDelay));
     }
 
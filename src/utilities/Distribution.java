@@ -0,0 +1,84 @@
+package utilities;
+
+import java.util.Random;
+
+/**
+ * Input distributions for headless runs. Every distribution produces values in {@code [0, n)}
+ * like the visualizer's own arrays, and is fully determined by the seed of the given {@link Random}.
+ */
+public enum Distribution {
+    /**
+     * A random permutation of 0 to n-1, as shown by the visualizer.
+     */
+    RANDOM {
+        @Override
+        void generate(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) a[i] = i;
+            shuffle(a, random);
+        }
+    },
+    /**
+     * Already in ascending order.
+     */
+    SORTED {
+        @Override
+        void generate(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) a[i] = i;
+        }
+    },
+    /**
+     * In descending order.
+     */
+    REVERSED {
+        @Override
+        void generate(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) a[i] = a.length - 1 - i;
+        }
+    },
+    /**
+     * Ascending order with about 1% of the elements swapped to random positions.
+     */
+    NEARLY_SORTED {
+        @Override
+        void generate(int[] a, Random random) {
+            SORTED.generate(a, random);
+            for (int s = 0; s < Math.max(1, a.length / 100) && a.length > 0; s++) {
+                swap(a, random.nextInt(a.length), random.nextInt(a.length));
+            }
+        }
+    },
+    /**
+     * Only sixteen distinct values, spread over the range, in random order.
+     */
+    FEW_UNIQUE {
+        @Override
+        void generate(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) a[i] = (int) ((long) random.nextInt(16) * a.length / 16);
+        }
+    };
+
+    /**
+     * Creates a new array of the given length filled with this distribution.
+     *
+     * @param n    The number of elements.
+     * @param seed The seed that fully determines the generated values.
+     * @return The generated array.
+     */
+    public int[] create(int n, long seed) {
+        int[] a = new int[n];
+        generate(a, new Random(seed));
+        return a;
+    }
+
+    abstract void generate(int[] a, Random random);
+
+    static void shuffle(int[] a, Random random) {
+        for (int i = a.length - 1; i > 0; i--) swap(a, i, random.nextInt(i + 1));
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
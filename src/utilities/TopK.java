@@ -0,0 +1,71 @@
+package utilities;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Streaming top-k selection over an input of unknown length using O(k) memory.
+ * The k largest values seen so far are kept in a bounded min-heap whose root is the
+ * smallest of them, so each further value costs one comparison unless it displaces the root.
+ */
+public final class TopK {
+    private TopK() {
+    }
+
+    /**
+     * Collects the k largest values of a stream.
+     *
+     * @param values The input stream, consumed once.
+     * @param k      The number of values to keep.
+     * @return The k largest values in ascending order, or fewer if the stream was shorter.
+     */
+    public static int[] of(IntStream values, int k) {
+        return of(values.iterator(), k);
+    }
+
+    /**
+     * Collects the k largest values of an iterator.
+     *
+     * @param values The input values, consumed once.
+     * @param k      The number of values to keep.
+     * @return The k largest values in ascending order, or fewer if the input was shorter.
+     */
+    public static int[] of(PrimitiveIterator.OfInt values, int k) {
+        int[] heap = new int[k];
+        int size = 0;
+        while (values.hasNext()) {
+            int value = values.nextInt();
+            if (size < k) {
+                // Sift up into the partially filled heap
+                int i = size++;
+                while (i > 0 && heap[(i - 1) / 2] > value) {
+                    heap[i] = heap[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                heap[i] = value;
+            } else if (k > 0 && value > heap[0]) {
+                siftDown(heap, value, k);
+            }
+        }
+        int[] result = Arrays.copyOf(heap, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Replaces the root of a full min-heap with a new value and restores the heap property.
+     */
+    private static void siftDown(int[] heap, int value, int size) {
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= value) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+}